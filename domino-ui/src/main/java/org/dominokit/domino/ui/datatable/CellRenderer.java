@@ -39,6 +39,21 @@ public interface CellRenderer<T> {
    */
   Node asElement(CellInfo<T> cellInfo);
 
+  /**
+   * Updates the content of an already rendered cell in place when the value extracted by {@link
+   * ColumnConfig#setCellValueExtractor(java.util.function.Function)} changes, instead of recreating
+   * the cell content.
+   *
+   * @param cellInfo information about the cell being updated.
+   * @param oldValue the value the cell was last rendered with.
+   * @param newValue the new value of the cell.
+   * @return true if the cell was updated in place, false to clear the cell and render it again with
+   *     {@link #asElement(CellInfo)}.
+   */
+  default boolean update(CellInfo<T> cellInfo, Object oldValue, Object newValue) {
+    return false;
+  }
+
   /**
    * Represents the detailed information of a specific cell in the data table.
    *
@@ -24,9 +24,13 @@ import elemental2.dom.Element;
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.Node;
 import java.util.*;
+import java.util.function.BiPredicate;
 import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import org.dominokit.domino.ui.IsElement;
+import org.dominokit.domino.ui.datatable.store.Aggregator;
+import org.dominokit.domino.ui.datatable.store.FilterIndexType;
 import org.dominokit.domino.ui.elements.TableRowElement;
 import org.dominokit.domino.ui.icons.MdiIcon;
 import org.dominokit.domino.ui.icons.lib.Icons;
@@ -56,6 +60,10 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
 
   private final String name;
   private String filterKey;
+  private FilterIndexType filterIndexType;
+  private Function<T, ?> filterValueExtractor;
+  private Aggregator aggregator;
+  private Function<T, ?> aggregateValueExtractor;
   private String title;
   private ColumnHeader headElement;
   private String minWidth;
@@ -64,6 +72,8 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
   private CellTextAlign headerCellTextAlign = CellTextAlign.LEFT;
   private CellRenderer<T> cellRenderer;
   private CellRenderer<T> editableCellRenderer;
+  private Function<T, ?> cellValueExtractor;
+  private BiPredicate<Object, Object> cellValueEquality = Objects::equals;
   private HeaderElementSupplier headerElementSupplier = columnTitle -> text(columnTitle);
   private CellStyler<T> headerStyler = element -> {};
   private CellStyler<T> cellStyler = element -> {};
@@ -180,6 +190,77 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
     return this;
   }
 
+  /**
+   * Sets up a value index for the header filter of this column, data stores that support it like
+   * {@link org.dominokit.domino.ui.datatable.store.LocalListDataStore#indexColumns(Collection)}
+   * answer the filters of this column from the index instead of evaluating the search filter on
+   * every record.
+   *
+   * @param filterIndexType how the index matches the filter values
+   * @param filterValueExtractor extracts the indexed value from a record
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setFilterIndex(
+      FilterIndexType filterIndexType, Function<T, ?> filterValueExtractor) {
+    this.filterIndexType = filterIndexType;
+    this.filterValueExtractor = filterValueExtractor;
+    return this;
+  }
+
+  /**
+   * Retrieves the type of the header filter value index of this column.
+   *
+   * @return the filter index type, or {@code null} if the column filter is not indexed
+   */
+  public FilterIndexType getFilterIndexType() {
+    return filterIndexType;
+  }
+
+  /**
+   * Retrieves the function that extracts the indexed filter value from a record.
+   *
+   * @return the filter value extractor, or {@code null} if the column filter is not indexed
+   */
+  public Function<T, ?> getFilterValueExtractor() {
+    return filterValueExtractor;
+  }
+
+  /**
+   * Sets up an aggregate for this column, data stores that support it like {@link
+   * org.dominokit.domino.ui.datatable.store.LocalListDataStore#aggregateColumns(Collection)}
+   * maintain the aggregate over all the filtered records, and the {@link
+   * org.dominokit.domino.ui.datatable.plugins.summary.SummaryPlugin} can display it.
+   *
+   * @param aggregator the aggregate to compute, see {@link
+   *     org.dominokit.domino.ui.datatable.store.Aggregators}
+   * @param aggregateValueExtractor extracts the aggregated value from a record
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setAggregation(
+      Aggregator aggregator, Function<T, ?> aggregateValueExtractor) {
+    this.aggregator = aggregator;
+    this.aggregateValueExtractor = aggregateValueExtractor;
+    return this;
+  }
+
+  /**
+   * Retrieves the aggregate of this column.
+   *
+   * @return the aggregator, or {@code null} if the column is not aggregated
+   */
+  public Aggregator getAggregator() {
+    return aggregator;
+  }
+
+  /**
+   * Retrieves the function that extracts the aggregated value from a record.
+   *
+   * @return the aggregate value extractor, or {@code null} if the column is not aggregated
+   */
+  public Function<T, ?> getAggregateValueExtractor() {
+    return aggregateValueExtractor;
+  }
+
   /**
    * Sets the minimum width constraint for this column.
    *
@@ -392,6 +473,50 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
     return this;
   }
 
+  /**
+   * Sets the function that extracts the value a cell of this column displays from its record. When
+   * set, the cells remember the last rendered value and an update of the row re-renders a cell only
+   * if its value changed, the cell renderers are then expected to depend only on this value.
+   *
+   * @param cellValueExtractor extracts the displayed value from a record, {@code null} to render
+   *     the cells on every update
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setCellValueExtractor(Function<T, ?> cellValueExtractor) {
+    this.cellValueExtractor = cellValueExtractor;
+    return this;
+  }
+
+  /**
+   * Retrieves the function that extracts the value a cell of this column displays from its record.
+   *
+   * @return the cell value extractor, or {@code null} if the cells are rendered on every update
+   */
+  public Function<T, ?> getCellValueExtractor() {
+    return cellValueExtractor;
+  }
+
+  /**
+   * Sets the predicate used to decide if the extracted cell value is unchanged since the last
+   * render, defaults to {@link Objects#equals(Object, Object)}.
+   *
+   * @param cellValueEquality tests the last rendered value against the new value
+   * @return the current instance for chaining
+   */
+  public ColumnConfig<T> setCellValueEquality(BiPredicate<Object, Object> cellValueEquality) {
+    this.cellValueEquality = cellValueEquality;
+    return this;
+  }
+
+  /**
+   * Retrieves the predicate used to decide if the extracted cell value is unchanged.
+   *
+   * @return the cell value equality predicate
+   */
+  public BiPredicate<Object, Object> getCellValueEquality() {
+    return cellValueEquality;
+  }
+
   /**
    * Styles the header using the provided header styler.
    *
@@ -648,6 +773,7 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
     this.permanentHideListeners.forEach(showHideListener -> showHideListener.onShowHide(true));
     this.showHideListeners.forEach(showHideListener -> showHideListener.onShowHide(true));
     this.hidden = false;
+    applyHiddenRule();
     return this;
   }
 
@@ -660,9 +786,14 @@ public class ColumnConfig<T> implements ElementsFactory, DataTableStyles {
     this.permanentHideListeners.forEach(showHideListener -> showHideListener.onShowHide(false));
     this.showHideListeners.forEach(showHideListener -> showHideListener.onShowHide(false));
     this.hidden = true;
+    applyHiddenRule();
     return this;
   }
 
+  private void applyHiddenRule() {
+    ColumnCssRuleMeta.get(this).ifPresent(meta -> meta.setHidden(hidden).flush());
+  }
+
   /**
    * Toggles the display of the column.
    *
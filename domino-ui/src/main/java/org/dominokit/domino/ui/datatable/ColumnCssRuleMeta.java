@@ -114,6 +114,37 @@ public class ColumnCssRuleMeta<T> implements ComponentMeta {
         .collect(Collectors.toList());
   }
 
+  /**
+   * Shows or hides every element that carries the column default rule class, this includes the
+   * header, the row cells and the summary cells of the column, regardless of how many rows are
+   * rendered. The change is applied to the style sheet on the next {@link #flush()}.
+   *
+   * @param hidden true to hide the column elements, false to show them.
+   * @return The current {@link ColumnCssRuleMeta} instance.
+   */
+  public ColumnCssRuleMeta<T> setHidden(boolean hidden) {
+    getColumnCssRule(DEFAULT_RULE)
+        .ifPresent(
+            columnCssRule -> {
+              if (hidden) {
+                columnCssRule.getCssRule().setProperty("display", "none !important");
+              } else {
+                columnCssRule.getCssRule().removeProperty("display");
+              }
+            });
+    return this;
+  }
+
+  /**
+   * Writes the pending changes of the column rules into the table style sheet.
+   *
+   * @return The current {@link ColumnCssRuleMeta} instance.
+   */
+  public ColumnCssRuleMeta<T> flush() {
+    dynamicStyleSheet.flush();
+    return this;
+  }
+
   /**
    * Returns the key associated with the column CSS rule meta.
    *
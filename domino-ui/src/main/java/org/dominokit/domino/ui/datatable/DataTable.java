@@ -15,19 +15,30 @@
  */
 package org.dominokit.domino.ui.datatable;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.core.JsWeakMap;
+import elemental2.dom.DocumentFragment;
 import elemental2.dom.DomGlobal;
+import elemental2.dom.Element;
+import elemental2.dom.Event;
 import elemental2.dom.EventListener;
 import elemental2.dom.HTMLDivElement;
+import elemental2.dom.HTMLElement;
 import elemental2.dom.Node;
 import java.util.*;
 import java.util.stream.Collectors;
+import jsinterop.base.Js;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.datatable.events.*;
 import org.dominokit.domino.ui.datatable.model.SearchContext;
+import org.dominokit.domino.ui.datatable.plugins.column.PinColumnMeta;
+import org.dominokit.domino.ui.datatable.store.DataChangedEvent;
 import org.dominokit.domino.ui.datatable.store.DataStore;
+import org.dominokit.domino.ui.datatable.store.IndexRange;
+import org.dominokit.domino.ui.datatable.store.RecordKeyProvider;
 import org.dominokit.domino.ui.elements.*;
 import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.style.BooleanCssClass;
@@ -74,6 +85,11 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
   private RemoveRowsHandler<T> removeRecordsHandler = table -> table.bodyElement().clearElement();
 
+  private final JsWeakMap<Element, TableRow<T>> rowsByElement = new JsWeakMap<>();
+  private final Map<Object, TableRow<T>> rowsByRecordKey = new HashMap<>();
+  private final Map<String, List<RowEventHandler<T>>> rowEventHandlers = new HashMap<>();
+  private final EventListener rowEventsListener = this::dispatchRowEvent;
+
   private EventListener disableKeyboardListener =
       evt -> {
         if (isDisabled()) {
@@ -82,6 +98,29 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         }
       };
 
+  private TableRowElement virtualTopSpacer;
+  private TableRowElement virtualBottomSpacer;
+  private TDElement virtualTopSpacerCell;
+  private TDElement virtualBottomSpacerCell;
+  private int virtualStart = 0;
+  private int virtualEnd = 0;
+  private double virtualRowHeight;
+  private boolean virtualRowHeightMeasured = false;
+  private boolean virtualRenderScheduled = false;
+  private Set<String> columnsWindow;
+  private boolean columnsWindowScheduled = false;
+  private final Deque<TableRow<T>> rowsPool = new ArrayDeque<>();
+  private final TableSelectionModel<T> selectionModel = new TableSelectionModel<>(this);
+  private List<T> chunkRecords;
+  private int chunkStartIndex;
+  private int chunkNextIndex;
+  private double chunkFrame;
+  private DocumentFragment rowsFragment;
+  private TableDataUpdatedEvent<T> chunkDataUpdatedEvent;
+  private final Set<String> frameCoalescedEvents = new HashSet<>();
+  private final Map<String, TableEvent> pendingCoalescedEvents = new LinkedHashMap<>();
+  private boolean coalescedEventsScheduled = false;
+
   private DynamicStyleSheet<HTMLDivElement, DataTable<T>> dynamicStyleSheet;
   private Set<SelectionListener<? super TableRow<T>, ? super List<TableRow<T>>>>
       selectionListeners = new HashSet<>();
@@ -101,7 +140,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
     this.events.put(ANY, new ArrayList<>());
     this.dataStore = dataStore;
-    this.addTableEventListener(ANY, dataStore);
+    this.addTableEventListener(dataStore);
     tableElement.setAttribute("dui-data-v-scroll", 0);
     tableElement.setAttribute("dui-data-h-scroll", 0);
     this.addEventListener(EventType.keydown.getName(), disableKeyboardListener, true);
@@ -112,6 +151,17 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
           double scrollLeft = new Double(tableElement.element().scrollLeft).intValue();
           tableElement.setAttribute("dui-data-v-scroll", scrollTop);
           tableElement.setAttribute("dui-data-h-scroll", scrollLeft);
+          if (isVirtualScrolling() && !virtualRenderScheduled) {
+            virtualRenderScheduled = true;
+            DomGlobal.requestAnimationFrame(
+                timestamp -> {
+                  virtualRenderScheduled = false;
+                  renderVirtualWindow();
+                });
+          }
+          if (isColumnVirtualization()) {
+            scheduleColumnsWindow();
+          }
         });
     this.dataStore.onDataChanged(
         dataChangedEvent -> {
@@ -127,10 +177,18 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
 
           if (dataChangedEvent.isAppend()) {
             appendData(dataChangedEvent.getNewData());
+          } else if (dataChangedEvent.isDelta()) {
+            applyDelta(dataChangedEvent);
           } else {
             setData(dataChangedEvent.getNewData());
           }
-          fireTableEvent(new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount()));
+          TableDataUpdatedEvent<T> dataUpdatedEvent =
+              new TableDataUpdatedEvent<>(this.data, dataChangedEvent.getTotalCount());
+          if (isRenderingRows()) {
+            chunkDataUpdatedEvent = dataUpdatedEvent;
+          } else {
+            fireTableEvent(dataUpdatedEvent);
+          }
         });
 
     initDynamicStyleSheet();
@@ -140,9 +198,19 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
           DomGlobal.setTimeout(
               p0 -> {
                 getDynamicStyleSheet().flush();
+                if (isColumnVirtualization()) {
+                  refreshColumnsWindow();
+                }
               },
               0);
         });
+    addTableEventListener(
+        ColumnResizedEvent.COLUMN_RESIZED,
+        event -> {
+          if (isColumnVirtualization()) {
+            refreshColumnsWindow();
+          }
+        });
     addCss(dui_datatable_hover, dui_datatable_striped);
   }
 
@@ -151,18 +219,31 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     this.dynamicStyleSheet = new DynamicStyleSheet<>(PARENT_SELECTOR_PREFIX, this);
     tableConfig
         .getColumnsGrouped()
-        .forEach(
-            col -> {
-              col.applyAndOnSubColumns(
-                  column -> {
-                    ColumnCssRuleMeta<T> columnCssRuleMeta =
-                        ColumnCssRuleMeta.of(this.dynamicStyleSheet);
-                    columnCssRuleMeta.addRule(
-                        ColumnCssRuleMeta.DEFAULT_RULE,
-                        "col-" + column.getName().replace(" ", "-"));
-                    column.applyMeta(columnCssRuleMeta);
-                  });
-            });
+        .forEach(col -> col.applyAndOnSubColumns(this::addColumnCssRuleMeta));
+  }
+
+  /**
+   * Gets the css rule meta of a column, the meta is created if the column was added after the table
+   * was initialized so that the visibility of the cells of every column follows its css rule.
+   *
+   * @param column the column
+   * @return the column css rule meta
+   */
+  public ColumnCssRuleMeta<T> getColumnCssRuleMeta(ColumnConfig<T> column) {
+    Optional<ColumnCssRuleMeta<T>> columnCssRuleMeta = ColumnCssRuleMeta.get(column);
+    if (columnCssRuleMeta.isPresent()) {
+      return columnCssRuleMeta.get();
+    }
+    return addColumnCssRuleMeta(column).flush();
+  }
+
+  private ColumnCssRuleMeta<T> addColumnCssRuleMeta(ColumnConfig<T> column) {
+    ColumnCssRuleMeta<T> columnCssRuleMeta = ColumnCssRuleMeta.of(this.dynamicStyleSheet);
+    columnCssRuleMeta.addRule(
+        ColumnCssRuleMeta.DEFAULT_RULE, "col-" + column.getName().replace(" ", "-"));
+    columnCssRuleMeta.setHidden(column.isHidden());
+    column.applyMeta(columnCssRuleMeta);
+    return columnCssRuleMeta;
   }
 
   /**
@@ -184,7 +265,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
         .getPlugins()
         .forEach(
             plugin -> {
-              DataTable.this.addTableEventListener("*", plugin);
+              DataTable.this.addTableEventListener(plugin);
               plugin.init(DataTable.this);
               plugin.onBeforeAddTable(DataTable.this);
             });
@@ -251,9 +332,24 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return the current DataTable instance
    */
   public DataTable<T> setData(List<T> data) {
+    if (canReconcile(data)) {
+      reconcileData(data);
+      return this;
+    }
+    cancelChunkedRender();
     this.data = data;
+    if (tableConfig.isRowsRecycling()) {
+      tableRows.forEach(this::poolRow);
+    }
     tableRows.clear();
+    rowsByRecordKey.clear();
+    selectionModel.onRowsCleared();
     removeRecordsHandler.removeRows(this);
+    if (isVirtualScrolling()) {
+      initVirtualWindow();
+      renderVirtualWindow();
+      return this;
+    }
     if (nonNull(data) && !data.isEmpty()) {
       addRows(data, 0);
     }
@@ -267,7 +363,10 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return the current DataTable instance
    */
   public DataTable<T> appendData(List<T> newData) {
-    if (nonNull(this.data)) {
+    if (nonNull(this.data) && isVirtualScrolling()) {
+      this.data.addAll(newData);
+      renderVirtualWindow();
+    } else if (nonNull(this.data)) {
       addRows(newData, this.data.size());
       this.data.addAll(newData);
     } else {
@@ -276,6 +375,521 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     return this;
   }
 
+  /**
+   * Checks if the provided data can be applied by reconciling the current rows by record identity.
+   *
+   * @param newData the new data
+   * @return true if a record key provider is set and there are rows to reconcile, false otherwise
+   */
+  private boolean canReconcile(List<T> newData) {
+    return nonNull(tableConfig.getRecordKeyProvider())
+        && !isVirtualScrolling()
+        && nonNull(newData)
+        && nonNull(this.data)
+        && isNull(chunkRecords)
+        && !tableRows.isEmpty();
+  }
+
+  /**
+   * Applies the new data by reconciling the current rows by record identity, rows of the records
+   * that are still present are moved to their new positions together with their child rows and
+   * details rows, rows are drawn only for new records and removed only for departed records.
+   *
+   * @param newData the new data
+   */
+  private void reconcileData(List<T> newData) {
+    RecordKeyProvider<T> keyProvider = tableConfig.getRecordKeyProvider();
+    List<TableRow<T>> oldRoots =
+        tableRows.stream().filter(TableRow::isRoot).collect(Collectors.toList());
+    Map<Object, TableRow<T>> rowsByKey = new HashMap<>();
+    Map<TableRow<T>, List<Node>> rowsNodes = new HashMap<>();
+    for (int i = 0; i < oldRoots.size(); i++) {
+      TableRow<T> root = oldRoots.get(i);
+      rowsByKey.put(keyProvider.getKey(root.getRecord()), root);
+      Node stop = i + 1 < oldRoots.size() ? oldRoots.get(i + 1).element() : null;
+      List<Node> nodes = new ArrayList<>();
+      nodes.add(root.element());
+      Node sibling = root.element().nextSibling;
+      while (nonNull(sibling) && sibling != stop && isRowBlockNode(sibling)) {
+        nodes.add(sibling);
+        sibling = sibling.nextSibling;
+      }
+      rowsNodes.put(root, nodes);
+    }
+
+    Map<TableRow<T>, List<TableRow<T>>> descendants = new HashMap<>();
+    tableRows.stream()
+        .filter(TableRow::isChild)
+        .forEach(
+            tableRow -> {
+              TableRow<T> root = tableRow;
+              while (root.isChild()) {
+                root = root.getParent();
+              }
+              descendants.computeIfAbsent(root, r -> new ArrayList<>()).add(tableRow);
+            });
+
+    List<TableRow<T>> matchedRows = new ArrayList<>();
+    for (T record : newData) {
+      matchedRows.add(rowsByKey.remove(keyProvider.getKey(record)));
+    }
+
+    for (TableRow<T> departed : rowsByKey.values()) {
+      tableConfig.getPlugins().forEach(plugin -> plugin.onRowRemoved(this, departed));
+      List<TableRow<T>> departedRows = new ArrayList<>();
+      departedRows.add(departed);
+      departedRows.addAll(descendants.getOrDefault(departed, Collections.emptyList()));
+      for (TableRow<T> departedRow : departedRows) {
+        selectionModel.onRowReleased(departedRow);
+        if (!selectionModel.isRetainSelection()) {
+          selectionModel.onRecordRemoved(departedRow.getRecord());
+        }
+      }
+      List<Node> nodes = rowsNodes.get(departed);
+      for (int i = 1; i < nodes.size(); i++) {
+        Node node = nodes.get(i);
+        if (nonNull(node.parentNode)) {
+          node.parentNode.removeChild(node);
+        }
+      }
+      releaseRow(departed);
+    }
+
+    Set<TableRow<T>> departedRows = new HashSet<>(rowsByKey.values());
+    Node next = null;
+    for (TableRow<T> root : oldRoots) {
+      if (!departedRows.contains(root)) {
+        next = root.element();
+        break;
+      }
+    }
+
+    this.data = newData;
+    List<TableRow<T>> newRows = new ArrayList<>();
+    for (int index = 0; index < newData.size(); index++) {
+      T record = newData.get(index);
+      TableRow<T> tableRow = matchedRows.get(index);
+      List<Node> nodes;
+      if (isNull(tableRow)) {
+        tableRow = drawRow(record, index);
+        nodes = Collections.singletonList(tableRow.element());
+      } else {
+        tableConfig.updateRowIndex(tableRow, index);
+        if (tableRow.getRecord() != record) {
+          tableRow.rebind(record);
+          fireTableEvent(new RowRecordUpdatedEvent<>(tableRow));
+        }
+        nodes = rowsNodes.get(tableRow);
+      }
+      if (nodes.get(0) == next) {
+        next = nodes.get(nodes.size() - 1).nextSibling;
+      } else {
+        for (Node node : nodes) {
+          tbody.element().insertBefore(node, next);
+        }
+      }
+      newRows.add(tableRow);
+      newRows.addAll(descendants.getOrDefault(tableRow, Collections.emptyList()));
+    }
+    tableRows.clear();
+    tableRows.addAll(newRows);
+
+    tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+  }
+
+  /**
+   * Checks if a node that follows a root row belongs to that row, which is the case for child rows
+   * and record details rows.
+   *
+   * @param node the node to check
+   * @return true if the node should move along with the preceding root row, false otherwise
+   */
+  private boolean isRowBlockNode(Node node) {
+    if (node.nodeType != Node.ELEMENT_NODE) {
+      return false;
+    }
+    Element element = Js.uncheckedCast(node);
+    return dui_datatable_details_tr.isAppliedTo(element)
+        || (dui_datatable_row.isAppliedTo(element) && !dui_datatable_drop_row.isAppliedTo(element));
+  }
+
+  /**
+   * Patches the table rows and data using the inserted, removed and updated ranges of a delta data
+   * changed event, only the affected rows are removed, drawn or refreshed and the new data is not
+   * copied. Falls back to {@link #setData(List)} with a copy of the new data when the current rows
+   * do not map one to one to the current data, for example when child rows are rendered. With
+   * virtual scrolling only updates are patched, and only for the rows inside the rendered window.
+   *
+   * @param dataChangedEvent the delta data changed event
+   */
+  private void applyDelta(DataChangedEvent<T> dataChangedEvent) {
+    List<T> newData = dataChangedEvent.getNewData();
+    int removedCount =
+        dataChangedEvent.getRemovedRanges().stream().mapToInt(IndexRange::getCount).sum();
+    int insertedCount =
+        dataChangedEvent.getInsertedRanges().stream().mapToInt(IndexRange::getCount).sum();
+    if (isVirtualScrolling()
+        && nonNull(this.data)
+        && removedCount == 0
+        && insertedCount == 0
+        && this.data.size() == newData.size()) {
+      for (IndexRange range : dataChangedEvent.getUpdatedRanges()) {
+        for (int index = range.getFromIndex(); index < range.getToIndex(); index++) {
+          this.data.set(index, newData.get(index));
+        }
+        int from = Math.max(range.getFromIndex(), virtualStart);
+        int to = Math.min(range.getToIndex(), virtualEnd);
+        for (int index = from; index < to && index - virtualStart < tableRows.size(); index++) {
+          TableRow<T> tableRow = tableRows.get(index - virtualStart);
+          tableRow.setRecord(newData.get(index));
+          tableRow.getRowCells().values().forEach(RowCell::updateCell);
+          fireTableEvent(new RowRecordUpdatedEvent<>(tableRow));
+        }
+      }
+      return;
+    }
+    if (isNull(this.data)
+        || isVirtualScrolling()
+        || tableRows.size() != this.data.size()
+        || this.data.size() - removedCount + insertedCount != newData.size()) {
+      setData(new ArrayList<>(newData));
+      return;
+    }
+
+    int firstShiftedIndex = tableRows.size();
+
+    List<IndexRange> removedRanges = new ArrayList<>(dataChangedEvent.getRemovedRanges());
+    removedRanges.sort(Comparator.comparingInt(IndexRange::getFromIndex).reversed());
+    for (IndexRange range : removedRanges) {
+      for (int index = range.getToIndex() - 1; index >= range.getFromIndex(); index--) {
+        this.data.remove(index);
+        TableRow<T> tableRow = tableRows.remove(index);
+        tableConfig.getPlugins().forEach(plugin -> plugin.onRowRemoved(this, tableRow));
+        selectionModel.onRecordRemoved(tableRow.getRecord());
+        releaseRow(tableRow);
+      }
+      firstShiftedIndex = Math.min(firstShiftedIndex, range.getFromIndex());
+    }
+
+    List<IndexRange> insertedRanges = new ArrayList<>(dataChangedEvent.getInsertedRanges());
+    insertedRanges.sort(Comparator.comparingInt(IndexRange::getFromIndex));
+    for (IndexRange range : insertedRanges) {
+      for (int index = range.getFromIndex(); index < range.getToIndex(); index++) {
+        this.data.add(index, newData.get(index));
+        TableRow<T> tableRow = drawRow(newData.get(index), index);
+        if (index < tableRows.size()) {
+          Node nextRow = tableRows.get(index).element();
+          if (nonNull(nextRow.parentNode) && nextRow.parentNode == tableRow.element().parentNode) {
+            nextRow.parentNode.insertBefore(tableRow.element(), nextRow);
+          }
+        }
+        tableRows.add(index, tableRow);
+      }
+      firstShiftedIndex = Math.min(firstShiftedIndex, range.getToIndex());
+    }
+
+    for (int index = firstShiftedIndex; index < tableRows.size(); index++) {
+      tableConfig.updateRowIndex(tableRows.get(index), index);
+    }
+
+    for (IndexRange range : dataChangedEvent.getUpdatedRanges()) {
+      for (int index = range.getFromIndex(); index < range.getToIndex(); index++) {
+        this.data.set(index, newData.get(index));
+        TableRow<T> tableRow = tableRows.get(index);
+        tableRow.setRecord(newData.get(index));
+        tableRow.getRowCells().values().forEach(RowCell::updateCell);
+        fireTableEvent(new RowRecordUpdatedEvent<>(tableRow));
+      }
+    }
+
+    if (insertedCount > 0) {
+      tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+    }
+  }
+
+  /**
+   * Checks if the table body is currently rendered in virtual scrolling mode.
+   *
+   * @return true if virtual scrolling is enabled and the table is fixed, false otherwise
+   */
+  public boolean isVirtualScrolling() {
+    return tableConfig.isVirtualScrolling() && tableConfig.isFixed();
+  }
+
+  /** Resets the rendered rows window and appends the top and bottom spacer rows to the body. */
+  private void initVirtualWindow() {
+    if (isNull(virtualTopSpacer)) {
+      virtualRowHeight = tableConfig.getVirtualRowHeight();
+      virtualTopSpacerCell = td();
+      virtualBottomSpacerCell = td();
+      virtualTopSpacer = tr().addCss(dui_datatable_spacer_row).appendChild(virtualTopSpacerCell);
+      virtualBottomSpacer =
+          tr().addCss(dui_datatable_spacer_row).appendChild(virtualBottomSpacerCell);
+    }
+    int columnsCount = Math.max(1, tableConfig.getColumns().size());
+    virtualTopSpacerCell.setAttribute("colspan", columnsCount);
+    virtualBottomSpacerCell.setAttribute("colspan", columnsCount);
+    tbody.appendChild(virtualTopSpacer);
+    tbody.appendChild(virtualBottomSpacer);
+    virtualStart = 0;
+    virtualEnd = 0;
+  }
+
+  /**
+   * Renders the rows intersecting the scroll viewport plus the configured overscan rows, rows that
+   * left the window are removed and rows that entered it are drawn between the spacer rows, while
+   * the spacers heights are updated to represent the rows that are not rendered.
+   */
+  private void renderVirtualWindow() {
+    if (isNull(virtualTopSpacer)) {
+      return;
+    }
+    int size = isNull(data) ? 0 : data.size();
+    int overscan = tableConfig.getVirtualOverscan();
+    double scrollTop = tableElement.element().scrollTop;
+    double viewportHeight = tableElement.element().clientHeight;
+    int first = (int) Math.floor(scrollTop / virtualRowHeight);
+    int visible =
+        viewportHeight > 0 ? (int) Math.ceil(viewportHeight / virtualRowHeight) : overscan;
+    int start = Math.max(0, Math.min(first - overscan, size));
+    int end = Math.max(start, Math.min(first + visible + overscan, size));
+    boolean rowsAdded = false;
+
+    if (start != virtualStart || end != virtualEnd || tableRows.size() != end - start) {
+      List<TableRow<T>> retained = new ArrayList<>();
+      for (TableRow<T> tableRow : tableRows) {
+        if (tableRow.getIndex() >= start && tableRow.getIndex() < end) {
+          retained.add(tableRow);
+        } else {
+          tableConfig.getPlugins().forEach(plugin -> plugin.onRowRemoved(this, tableRow));
+          releaseRow(tableRow);
+        }
+      }
+
+      List<TableRow<T>> windowRows = new ArrayList<>();
+      int retainedStart = retained.isEmpty() ? end : retained.get(0).getIndex();
+      int retainedEnd = retained.isEmpty() ? end : retained.get(retained.size() - 1).getIndex() + 1;
+      Node before = retained.isEmpty() ? virtualBottomSpacer.element() : retained.get(0).element();
+      for (int index = start; index < retainedStart; index++) {
+        windowRows.add(drawVirtualRow(index, before));
+      }
+      windowRows.addAll(retained);
+      for (int index = Math.max(start, retainedEnd); index < end; index++) {
+        windowRows.add(drawVirtualRow(index, virtualBottomSpacer.element()));
+      }
+      rowsAdded = windowRows.size() > retained.size();
+      tableRows.clear();
+      tableRows.addAll(windowRows);
+      virtualStart = start;
+      virtualEnd = end;
+    }
+
+    if (!virtualRowHeightMeasured && !tableRows.isEmpty()) {
+      double measured = tableRows.get(0).element().offsetHeight;
+      if (measured > 0) {
+        virtualRowHeight = measured;
+        virtualRowHeightMeasured = true;
+      }
+    }
+    virtualTopSpacerCell.setHeight(virtualStart * virtualRowHeight + "px");
+    virtualBottomSpacerCell.setHeight((size - virtualEnd) * virtualRowHeight + "px");
+
+    if (rowsAdded) {
+      tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+    }
+  }
+
+  /**
+   * Checks if the table rows are currently rendered in column virtualization mode.
+   *
+   * @return true if column virtualization is enabled and the table is fixed, false otherwise
+   */
+  public boolean isColumnVirtualization() {
+    return tableConfig.isColumnVirtualization() && tableConfig.isFixed();
+  }
+
+  /**
+   * Checks if the rows of this table render a cell for the specified column, in column
+   * virtualization mode only plugin, pinned and hidden columns and the columns intersecting the
+   * horizontal scroll viewport plus the overscan columns are rendered.
+   *
+   * @param column the column to check
+   * @return true if the rows render cells for the column, false otherwise
+   */
+  public boolean isColumnRendered(ColumnConfig<T> column) {
+    if (!isColumnVirtualization()
+        || column.isPluginColumn()
+        || column.isHidden()
+        || PinColumnMeta.get(column).isPresent()) {
+      return true;
+    }
+    if (isNull(columnsWindow)) {
+      columnsWindow = computeColumnsWindow();
+    }
+    return columnsWindow.contains(column.getName());
+  }
+
+  /**
+   * Recomputes the columns window in the next animation frame and updates the rendered rows even if
+   * the window did not change, this should be called when columns are resized, shown or hidden in
+   * column virtualization mode.
+   */
+  public void refreshColumnsWindow() {
+    columnsWindow = null;
+    scheduleColumnsWindow();
+  }
+
+  private void scheduleColumnsWindow() {
+    if (!columnsWindowScheduled) {
+      columnsWindowScheduled = true;
+      DomGlobal.requestAnimationFrame(
+          timestamp -> {
+            columnsWindowScheduled = false;
+            renderColumnsWindow();
+          });
+    }
+  }
+
+  /**
+   * Updates the cells of the rendered rows to the columns intersecting the horizontal scroll
+   * viewport, the rows are updated only when the columns window changed.
+   */
+  private void renderColumnsWindow() {
+    Set<String> window = computeColumnsWindow();
+    if (window.equals(columnsWindow)) {
+      return;
+    }
+    columnsWindow = window;
+    tableRows.forEach(TableRow::renderColumnsWindow);
+  }
+
+  /**
+   * Computes the names of the columns intersecting the horizontal scroll viewport plus the overscan
+   * columns, the columns geometry is measured from the header cells once the table is displayed and
+   * estimated from the columns widths otherwise.
+   *
+   * @return the names of the columns in the window
+   */
+  private Set<String> computeColumnsWindow() {
+    List<ColumnConfig<T>> columns = tableConfig.getColumns();
+    HTMLElement table = tableElement.element();
+    boolean measurable = isAttached() && table.clientWidth > 0;
+    double viewportStart = measurable ? table.scrollLeft : 0;
+    double viewportEnd =
+        viewportStart + (measurable ? table.clientWidth : DomGlobal.window.innerWidth);
+    int first = -1;
+    int last = -1;
+    double left = 0;
+    for (int index = 0; index < columns.size(); index++) {
+      ColumnConfig<T> column = columns.get(index);
+      double width;
+      if (measurable) {
+        HTMLElement headElement = column.getHeadElement().element();
+        left = headElement.offsetLeft;
+        width = headElement.offsetWidth;
+      } else {
+        width = column.isHidden() ? 0 : estimateColumnWidth(column);
+      }
+      if (left + width > viewportStart && left < viewportEnd) {
+        first = first < 0 ? index : first;
+        last = index;
+      }
+      left += measurable ? 0 : width;
+    }
+    Set<String> window = new HashSet<>();
+    if (first >= 0) {
+      int overscan = tableConfig.getVirtualColumnOverscan();
+      int end = Math.min(columns.size() - 1, last + overscan);
+      for (int index = Math.max(0, first - overscan); index <= end; index++) {
+        window.add(columns.get(index).getName());
+      }
+    }
+    return window;
+  }
+
+  private double estimateColumnWidth(ColumnConfig<T> column) {
+    String width = column.getWidth();
+    if (isNull(width) || !width.endsWith("px")) {
+      width = tableConfig.getFixedDefaultColumnWidth();
+    }
+    if (nonNull(width) && width.endsWith("px")) {
+      try {
+        return Double.parseDouble(width.substring(0, width.length() - 2).trim());
+      } catch (NumberFormatException e) {
+        return 100;
+      }
+    }
+    return 100;
+  }
+
+  /**
+   * Draws a single row for the record at the specified index and moves it before the provided
+   * node.
+   *
+   * @param index the index of the record in the table data
+   * @param before the node the row should be inserted before
+   * @return the drawn table row
+   */
+  private TableRow<T> drawVirtualRow(int index, Node before) {
+    TableRow<T> tableRow = drawRow(data.get(index), index);
+    tbody.element().insertBefore(tableRow.element(), before);
+    return tableRow;
+  }
+
+  /**
+   * Draws a row for the provided record, a row from the recycling pool is rebound to the record
+   * when available otherwise a new row is created and rendered.
+   *
+   * @param record the record of the row
+   * @param index the index of the row
+   * @return the drawn table row
+   */
+  private TableRow<T> drawRow(T record, int index) {
+    TableRow<T> tableRow = rowsPool.poll();
+    if (nonNull(tableRow)) {
+      tableConfig.updateRowIndex(tableRow, index);
+      tableRow.recycle(record);
+      tableConfig.drawRecycledRecord(DataTable.this, tableRow);
+      return tableRow;
+    }
+    TableRow<T> newRow = new TableRow<>(record, index, this);
+    tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, newRow));
+    tableConfig.drawRecord(DataTable.this, newRow);
+    return newRow;
+  }
+
+  /**
+   * Removes a single row from the table body, the row is kept in the recycling pool when rows
+   * recycling is enabled.
+   *
+   * @param tableRow the row to remove
+   */
+  private void releaseRow(TableRow<T> tableRow) {
+    rowsByRecordKey.remove(getRecordKey(tableRow.getRecord()), tableRow);
+    selectionModel.onRowReleased(tableRow);
+    if (!poolRow(tableRow)) {
+      tableRow.remove();
+    }
+  }
+
+  /**
+   * Detaches a row and keeps it in the recycling pool if rows recycling is enabled, the row is
+   * recyclable and the pool is not full.
+   *
+   * @param tableRow the row to pool
+   * @return true if the row was pooled, false otherwise
+   */
+  private boolean poolRow(TableRow<T> tableRow) {
+    if (tableConfig.isRowsRecycling()
+        && tableRow.isRecyclable()
+        && rowsPool.size() < tableConfig.getRowsPoolSize()) {
+      tableRow.element().remove();
+      rowsPool.offer(tableRow);
+      return true;
+    }
+    return false;
+  }
+
   /**
    * Adds rows to the data table based on the provided data and starting index.
    *
@@ -283,19 +897,94 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @param initialIndex the starting index for the new rows
    */
   private void addRows(List<T> data, int initialIndex) {
-    tableConfig.getColumns().forEach(ColumnConfig::clearShowHideListeners);
+    if (nonNull(chunkRecords)) {
+      chunkRecords.addAll(data);
+      return;
+    }
+    if (tableConfig.isChunkedRendering()
+        && tableConfig.isDefaultRowAppender()
+        && data.size() > tableConfig.getRenderChunkSize()) {
+      chunkRecords = new ArrayList<>(data);
+      chunkStartIndex = initialIndex;
+      chunkNextIndex = 0;
+      renderChunk();
+      return;
+    }
 
     for (int index = 0; index < data.size(); index++) {
-      TableRow<T> tableRow = new TableRow<>(data.get(index), initialIndex + index, this);
-      tableConfig.getPlugins().forEach(plugin -> plugin.onBeforeAddRow(DataTable.this, tableRow));
-
-      tableConfig.drawRecord(DataTable.this, tableRow);
-      tableRows.add(tableRow);
+      tableRows.add(drawRow(data.get(index), initialIndex + index));
     }
 
     tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
   }
 
+  /**
+   * Renders the next chunk of the pending records into a document fragment and attaches it to the
+   * table body at once, the next chunk is scheduled for the next animation frame. Plugins are
+   * notified that all rows are added, and the data updated event is fired, after the last chunk is
+   * rendered.
+   */
+  private void renderChunk() {
+    int end = Math.min(chunkNextIndex + tableConfig.getRenderChunkSize(), chunkRecords.size());
+    rowsFragment = DomGlobal.document.createDocumentFragment();
+    for (int index = chunkNextIndex; index < end; index++) {
+      tableRows.add(drawRow(chunkRecords.get(index), chunkStartIndex + index));
+    }
+    tbody.element().appendChild(rowsFragment);
+    rowsFragment = null;
+    chunkNextIndex = end;
+
+    int total = chunkRecords.size();
+    if (end < total) {
+      chunkFrame = DomGlobal.requestAnimationFrame(timestamp -> renderChunk());
+    } else {
+      chunkRecords = null;
+    }
+    fireTableEvent(new RowsRenderProgressEvent(end, total));
+    if (end >= total) {
+      tableConfig.getPlugins().forEach(plugin -> plugin.onAllRowsAdded(DataTable.this));
+      if (nonNull(chunkDataUpdatedEvent)) {
+        TableDataUpdatedEvent<T> dataUpdatedEvent = chunkDataUpdatedEvent;
+        chunkDataUpdatedEvent = null;
+        fireTableEvent(dataUpdatedEvent);
+      }
+    }
+  }
+
+  /** Cancels the rendering of the remaining chunks of rows if any. */
+  private void cancelChunkedRender() {
+    if (nonNull(chunkRecords)) {
+      DomGlobal.cancelAnimationFrame(chunkFrame);
+      chunkRecords = null;
+      chunkDataUpdatedEvent = null;
+    }
+  }
+
+  /**
+   * Checks if the table rows are still being rendered in chunks.
+   *
+   * @return true if there are rows pending to be rendered, false otherwise
+   */
+  public boolean isRenderingRows() {
+    return nonNull(chunkRecords);
+  }
+
+  /**
+   * Appends a row element to the end of the table body, while the rows are rendered in chunks the
+   * row is appended to the chunk being rendered and gets attached together with the chunk.
+   *
+   * @param tableRow the row to append
+   * @return the current DataTable instance
+   */
+  public DataTable<T> appendRowElement(TableRow<T> tableRow) {
+    if (nonNull(rowsFragment)) {
+      rowsFragment.appendChild(tableRow.element());
+    } else {
+      tbody.appendChild(tableRow.element());
+    }
+    return this;
+  }
+
   /**
    * Returns the current data present in the table.
    *
@@ -433,6 +1122,121 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     return tbody;
   }
 
+  /**
+   * Registers a handler for a DOM event fired inside the table rows. A single listener per event
+   * type is added to the table body and the row is resolved from the event target when the event
+   * fires, rows added or recycled later need no listeners of their own.
+   *
+   * @param type the DOM event type, e.g. click
+   * @param handler the handler to call with the event and the row it was fired in
+   * @return the current DataTable instance
+   */
+  public DataTable<T> addRowEventHandler(String type, RowEventHandler<T> handler) {
+    if (!rowEventHandlers.containsKey(type)) {
+      rowEventHandlers.put(type, new ArrayList<>());
+      tbody.addEventListener(type, rowEventsListener);
+    }
+    rowEventHandlers.get(type).add(handler);
+    return this;
+  }
+
+  /**
+   * Removes a handler previously added using {@link #addRowEventHandler(String,
+   * RowEventHandler)}, the body listener is removed with the last handler of the event type.
+   *
+   * @param type the DOM event type
+   * @param handler the handler to remove
+   * @return the current DataTable instance
+   */
+  public DataTable<T> removeRowEventHandler(String type, RowEventHandler<T> handler) {
+    List<RowEventHandler<T>> handlers = rowEventHandlers.get(type);
+    if (nonNull(handlers) && handlers.remove(handler) && handlers.isEmpty()) {
+      rowEventHandlers.remove(type);
+      tbody.removeEventListener(type, rowEventsListener);
+    }
+    return this;
+  }
+
+  /**
+   * Resolves the row of this table in which the specified event was fired, events fired in rows
+   * that are not table rows, like details rows or rows of a nested table, resolve to nothing.
+   *
+   * @param evt the DOM event
+   * @return an optional containing the table row, or empty if the event is not from a table row
+   */
+  public Optional<TableRow<T>> findRow(Event evt) {
+    Node node = Js.uncheckedCast(evt.target);
+    Node body = tbody.element();
+    while (nonNull(node) && node.parentNode != body) {
+      node = node.parentNode;
+    }
+    if (isNull(node)) {
+      return Optional.empty();
+    }
+    return Optional.ofNullable(rowsByElement.get(Js.<Element>uncheckedCast(node)));
+  }
+
+  private void dispatchRowEvent(Event evt) {
+    List<RowEventHandler<T>> handlers = rowEventHandlers.get(evt.type);
+    if (isNull(handlers) || handlers.isEmpty()) {
+      return;
+    }
+    findRow(evt)
+        .ifPresent(
+            tableRow -> new ArrayList<>(handlers).forEach(h -> h.handleEvent(evt, tableRow)));
+  }
+
+  /**
+   * Maps the row element to the row so events delegated to the table body can be resolved to it,
+   * the mapping is weak and does not keep discarded rows alive.
+   *
+   * @param tableRow the created row
+   */
+  void registerRow(TableRow<T> tableRow) {
+    rowsByElement.set(tableRow.element(), tableRow);
+    registerRowRecord(tableRow);
+  }
+
+  /**
+   * Maps the key of the row record to the row so the row can be found by its record key, called
+   * whenever the row is bound to a record. Rows without a record or with a negative index, like
+   * group headers, are not data rows and are not mapped.
+   *
+   * @param tableRow the row whose record changed
+   */
+  void registerRowRecord(TableRow<T> tableRow) {
+    if (nonNull(tableRow.getRecord()) && tableRow.getIndex() >= 0) {
+      rowsByRecordKey.put(getRecordKey(tableRow.getRecord()), tableRow);
+    }
+  }
+
+  /**
+   * Finds the row currently bound to the record with the specified key without scanning the rows.
+   *
+   * @param key the record key, as returned by {@link #getRecordKey(Object)}
+   * @return an optional containing the row of the record, or empty if the record has no row
+   */
+  public Optional<TableRow<T>> findRowByKey(Object key) {
+    TableRow<T> tableRow = rowsByRecordKey.get(key);
+    if (nonNull(tableRow) && !key.equals(getRecordKey(tableRow.getRecord()))) {
+      rowsByRecordKey.remove(key);
+      return Optional.empty();
+    }
+    return Optional.ofNullable(tableRow);
+  }
+
+  /**
+   * Returns the key that identifies the specified record in this table.
+   *
+   * @param record the record
+   * @return the key from the table record key provider, or the record itself when no key provider
+   *     is set
+   */
+  public Object getRecordKey(T record) {
+    RecordKeyProvider<T> keyProvider = tableConfig.getRecordKeyProvider();
+    return nonNull(keyProvider) ? keyProvider.getKey(record) : record;
+  }
+
   /**
    * Retrieves the header element of the table, which contains the column headers.
    *
@@ -525,15 +1329,42 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
   }
 
   /**
-   * Retrieves a list of the records associated with the table rows that are currently selected.
+   * Retrieves a list of the selected records in the order they were selected. When the selection
+   * is retained across data changes, see {@link TableSelectionModel#setRetainSelection(boolean)},
+   * this includes selected records that are not currently rendered.
    *
-   * @return a list of records corresponding to selected table rows
+   * @return a list of the selected records
    */
   public List<T> getSelectedRecords() {
-    return tableRows.stream()
-        .filter(TableRow::isSelected)
-        .map(TableRow::getRecord)
-        .collect(Collectors.toList());
+    return selectionModel.getSelectedRecords();
+  }
+
+  /**
+   * Retrieves the selection model that keeps track of the selected records of this table.
+   *
+   * @return the table selection model
+   */
+  public TableSelectionModel<T> getSelectionModel() {
+    return selectionModel;
+  }
+
+  /**
+   * Updates the selection model after a row selection changed and notifies the table selection
+   * listeners, the current selection is taken from the selection model and only if the listeners
+   * are not paused.
+   *
+   * @param tableRow the row whose selection changed
+   * @param selected the new selection state of the row
+   */
+  void onRowSelectionChanged(TableRow<T> tableRow, boolean selected) {
+    selectionModel.onRowSelectionChanged(tableRow, selected);
+    if (!selectionListenersPaused) {
+      if (selected) {
+        triggerSelectionListeners(tableRow, selectionModel.getSelectedRows());
+      } else {
+        triggerDeselectionListeners(tableRow, selectionModel.getSelectedRows());
+      }
+    }
   }
 
   /**
@@ -599,7 +1430,7 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
               });
         }
       }
-      triggerSelectionListeners(null, getSelection());
+      triggerSelectionListeners(null, selectionModel.getSelectedRows());
       fireTableEvent(SelectAllEvent.of(true, selectionCondition));
     }
     return this;
@@ -771,6 +1602,56 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     return this;
   }
 
+  /**
+   * Registers a table event listener for each of the event types it declares in {@link
+   * TableEventListener#getHandledEventTypes()}, so it is only notified with the events it consumes.
+   *
+   * @param listener the listener to be added
+   * @return the current DataTable instance
+   */
+  public DataTable<T> addTableEventListener(TableEventListener listener) {
+    listener.getHandledEventTypes().forEach(type -> addTableEventListener(type, listener));
+    return this;
+  }
+
+  /**
+   * Removes a table event listener from all the event types it declares in {@link
+   * TableEventListener#getHandledEventTypes()}.
+   *
+   * @param listener the listener to be removed
+   * @return the current DataTable instance
+   */
+  public DataTable<T> removeTableListener(TableEventListener listener) {
+    listener.getHandledEventTypes().forEach(type -> removeTableListener(type, listener));
+    return this;
+  }
+
+  /**
+   * Coalesces the table events of the specified types to one delivery per animation frame, when
+   * several events of the same type are fired within the same frame only the last one is delivered
+   * to the listeners. This is meant for high frequency events like {@link BodyScrollEvent} and
+   * {@link ColumnResizingEvent} where each event carries the full state and not a delta.
+   *
+   * @param types the event types to be coalesced
+   * @return the current DataTable instance
+   */
+  public DataTable<T> coalesceTableEvents(String... types) {
+    frameCoalescedEvents.addAll(Arrays.asList(types));
+    return this;
+  }
+
+  /**
+   * Stops coalescing the table events of the specified types, any pending event of these types is
+   * delivered with the next animation frame.
+   *
+   * @param types the event types to be delivered synchronously
+   * @return the current DataTable instance
+   */
+  public DataTable<T> removeCoalescedTableEvents(String... types) {
+    frameCoalescedEvents.removeAll(Arrays.asList(types));
+    return this;
+  }
+
   /**
    * Removes a registered table event listener for the specified event type.
    *
@@ -792,12 +1673,31 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
    * @return the current DataTable instance
    */
   public DataTable<T> fireTableEvent(TableEvent tableEvent) {
-    if (events.containsKey(tableEvent.getType())) {
-      events.get(tableEvent.getType()).forEach(listener -> listener.handleEvent(tableEvent));
+    if (frameCoalescedEvents.contains(tableEvent.getType())) {
+      pendingCoalescedEvents.put(tableEvent.getType(), tableEvent);
+      if (!coalescedEventsScheduled) {
+        coalescedEventsScheduled = true;
+        DomGlobal.requestAnimationFrame(timestamp -> flushCoalescedEvents());
+      }
+      return this;
     }
+    dispatchTableEvent(tableEvent);
+    return this;
+  }
 
+  private void flushCoalescedEvents() {
+    coalescedEventsScheduled = false;
+    List<TableEvent> pending = new ArrayList<>(pendingCoalescedEvents.values());
+    pendingCoalescedEvents.clear();
+    pending.forEach(this::dispatchTableEvent);
+  }
+
+  private void dispatchTableEvent(TableEvent tableEvent) {
+    List<TableEventListener> listeners = events.get(tableEvent.getType());
+    if (nonNull(listeners)) {
+      listeners.forEach(listener -> listener.handleEvent(tableEvent));
+    }
     events.get(ANY).forEach(listener -> listener.handleEvent(tableEvent));
-    return this;
   }
 
   /**
@@ -957,6 +1857,22 @@ public class DataTable<T> extends BaseDominoElement<HTMLDivElement, DataTable<T>
     boolean filter(TableRow<T> tableRow);
   }
 
+  /**
+   * Represents a handler for DOM events delegated from the table body to the table rows.
+   *
+   * @param <T> the type of data in the table
+   */
+  @FunctionalInterface
+  public interface RowEventHandler<T> {
+    /**
+     * Handles a DOM event fired inside a table row.
+     *
+     * @param evt the DOM event
+     * @param tableRow the row in which the event was fired
+     */
+    void handleEvent(Event evt, TableRow<T> tableRow);
+  }
+
   /**
    * Represents a handler for removing rows from the table.
    *
@@ -84,6 +84,10 @@ public interface DataTableStyles {
 
   CssClass dui_datatable_drop_row = () -> "dui-datatable-drop-row";
 
+  CssClass dui_datatable_spacer_row = () -> "dui-datatable-spacer-row";
+
+  CssClass dui_datatable_column_spacer = () -> "dui-datatable-column-spacer";
+
   CssClass table_row_filtered = () -> "table-row-filtered";
 
   CssClass fixed_width = () -> "fixed-width";
@@ -91,4 +95,6 @@ public interface DataTableStyles {
   CssClass header = () -> "table-header";
 
   CssClass dui_column_resizer = () -> "dui-column-resizer";
+
+  CssClass dui_column_resize_guide = () -> "dui-column-resize-guide";
 }
@@ -16,11 +16,13 @@
 
 package org.dominokit.domino.ui.datatable;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.HTMLTableCellElement;
+import java.util.function.Function;
 import org.dominokit.domino.ui.utils.DominoElement;
 
 /**
@@ -44,6 +46,15 @@ public class RowCell<T> {
   /** The default cell renderer used when no custom renderer is specified. */
   private CellRenderer<T> defaultCellRenderer = cell -> elements.text();
 
+  /** Whether the cell was rendered with an extracted value that can be compared on updates. */
+  private boolean rendered = false;
+
+  /** Whether the cell was last rendered while its row was in editing mode. */
+  private boolean renderedEditable;
+
+  /** The extracted value the cell was last rendered with. */
+  private Object renderedValue;
+
   /**
    * Constructs a new {@code RowCell} with the given cell information and column configuration.
    *
@@ -67,8 +78,51 @@ public class RowCell<T> {
   /**
    * Updates the content of the cell based on the associated column configuration and cell data.
    * This method should be called whenever the cell's content needs to be refreshed.
+   *
+   * <p>When the column defines a {@link ColumnConfig#setCellValueExtractor(Function) cell value
+   * extractor} the cell is skipped if its value did not change since the last render, and a changed
+   * value is first offered to {@link CellRenderer#update(CellRenderer.CellInfo, Object, Object)}
+   * before the cell is rendered again.
    */
   public void updateCell() {
+    boolean editable = cellInfo.getTableRow().isEditable();
+    CellRenderer<T> cellRenderer = getCellRenderer(editable);
+    Function<T, ?> valueExtractor = columnConfig.getCellValueExtractor();
+    if (isNull(valueExtractor)) {
+      rendered = false;
+      renderCell(cellRenderer);
+      return;
+    }
+
+    Object value = valueExtractor.apply(cellInfo.getRecord());
+    if (rendered && editable == renderedEditable) {
+      if (columnConfig.getCellValueEquality().test(renderedValue, value)) {
+        return;
+      }
+      if (cellRenderer.update(cellInfo, renderedValue, value)) {
+        renderedValue = value;
+        return;
+      }
+    }
+    renderCell(cellRenderer);
+    rendered = true;
+    renderedEditable = editable;
+    renderedValue = value;
+  }
+
+  /** Forgets the last rendered value so that the next update renders the cell again. */
+  public void invalidate() {
+    rendered = false;
+    renderedValue = null;
+  }
+
+  private CellRenderer<T> getCellRenderer(boolean editable) {
+    CellRenderer<T> cellRenderer =
+        editable ? columnConfig.getEditableCellRenderer() : columnConfig.getCellRenderer();
+    return nonNull(cellRenderer) ? cellRenderer : defaultCellRenderer;
+  }
+
+  private void renderCell(CellRenderer<T> cellRenderer) {
     DominoElement<HTMLTableCellElement> cellElement = elements.elementOf(cellInfo.getElement());
     cellElement.clearElement();
 
@@ -80,19 +134,7 @@ public class RowCell<T> {
       columnConfig.getHeadElement().addCss(columnConfig.getHeaderTextAlign());
     }
 
-    if (cellInfo.getTableRow().isEditable()) {
-      if (nonNull(columnConfig.getEditableCellRenderer())) {
-        cellElement.appendChild(columnConfig.getEditableCellRenderer().asElement(cellInfo));
-      } else {
-        cellElement.appendChild(defaultCellRenderer.asElement(cellInfo));
-      }
-    } else {
-      if (nonNull(columnConfig.getCellRenderer())) {
-        cellElement.appendChild(columnConfig.getCellRenderer().asElement(cellInfo));
-      } else {
-        cellElement.appendChild(defaultCellRenderer.asElement(cellInfo));
-      }
-    }
+    cellElement.appendChild(cellRenderer.asElement(cellInfo));
   }
 
   /**
@@ -25,6 +25,7 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.column.ResizeColumnMeta;
+import org.dominokit.domino.ui.datatable.store.RecordKeyProvider;
 import org.dominokit.domino.ui.elements.THeadElement;
 import org.dominokit.domino.ui.elements.TableRowElement;
 import org.dominokit.domino.ui.style.DominoCss;
@@ -58,8 +59,18 @@ public class TableConfig<T>
   private boolean lazyLoad = true;
   private boolean multiSelect = true;
   private boolean stickyHeader = false;
-  private RowAppender<T> rowAppender =
-      (dataTable, tableRow) -> dataTable.bodyElement().appendChild(tableRow.element());
+  private boolean virtualScrolling = false;
+  private double virtualRowHeight = 40;
+  private int virtualOverscan = 10;
+  private boolean columnVirtualization = false;
+  private int virtualColumnOverscan = 2;
+  private boolean rowsRecycling = false;
+  private int rowsPoolSize = 1000;
+  private RecordKeyProvider<T> recordKeyProvider;
+  private boolean chunkedRendering = false;
+  private int renderChunkSize = 100;
+  private final RowAppender<T> defaultRowAppender = DataTable::appendRowElement;
+  private RowAppender<T> rowAppender = defaultRowAppender;
   private DirtyRecordProvider<T> dirtyRecordProvider = original -> original;
   private SaveDirtyRecordHandler<T> saveDirtyRecordHandler = (originalRecord, dirtyRecord) -> {};
 
@@ -154,6 +165,40 @@ public class TableConfig<T>
     getPlugins().forEach(plugin -> plugin.onRowAdded(dataTable, tableRow));
   }
 
+  /**
+   * Appends a recycled table row that was already rendered for a previous record, the row cells are
+   * expected to be refreshed for the new record before calling this method. Plugins are notified
+   * with {@link DataTablePlugin#onRowRecycled(DataTable, TableRow)} instead of the row added hooks
+   * since the row already went through them when it was first drawn.
+   *
+   * @param dataTable The DataTable in which the record is to be drawn.
+   * @param tableRow The recycled table row.
+   */
+  void drawRecycledRecord(DataTable<T> dataTable, TableRow<T> tableRow) {
+    Optional<RowAppenderMeta<T>> appenderMeta = RowAppenderMeta.get(tableRow);
+    if (appenderMeta.isPresent()) {
+      appenderMeta.get().getRowAppender().appendRow(dataTable, tableRow);
+    } else {
+      rowAppender.appendRow(dataTable, tableRow);
+    }
+
+    getPlugins().forEach(plugin -> plugin.onRowRecycled(dataTable, tableRow));
+  }
+
+  /**
+   * Updates the index of an already drawn row and its odd/even styles.
+   *
+   * @param tableRow The table row to update.
+   * @param index The new index of the row.
+   */
+  void updateRowIndex(TableRow<T> tableRow, int index) {
+    if (tableRow.getIndex() != index) {
+      tableRow.setIndex(index);
+      tableRow.removeCss(dui_odd, dui_even);
+      tableRow.addCss(isOdd(index) ? dui_odd : dui_even);
+    }
+  }
+
   private boolean isOdd(int index) {
     return index % 2 > 0;
   }
@@ -543,6 +588,256 @@ public class TableConfig<T>
     return this;
   }
 
+  /**
+   * Checks if the table body is rendered in virtual scrolling mode.
+   *
+   * @return {@code true} if virtual scrolling is enabled, {@code false} otherwise.
+   */
+  public boolean isVirtualScrolling() {
+    return virtualScrolling;
+  }
+
+  /**
+   * Enables or disables virtual scrolling mode. In this mode a fixed table renders only the rows
+   * that intersect the scroll viewport plus an overscan buffer, while top and bottom spacer rows
+   * keep the scrollbar size correct. Rows are materialized and discarded as the table body is
+   * scrolled, so {@link DataTable#getRows()} contains only the currently rendered rows.
+   *
+   * <p>Virtual scrolling requires a fixed table, see {@link #setFixed(boolean)}, and rows with a
+   * uniform height, and it is not compatible with plugins that append rows to custom positions.
+   *
+   * @param virtualScrolling {@code true} to enable virtual scrolling, {@code false} to disable.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualScrolling(boolean virtualScrolling) {
+    this.virtualScrolling = virtualScrolling;
+    return this;
+  }
+
+  /**
+   * Retrieves the estimated height of a single row in pixels used for virtual scrolling.
+   *
+   * @return The estimated row height.
+   */
+  public double getVirtualRowHeight() {
+    return virtualRowHeight;
+  }
+
+  /**
+   * Sets the estimated height of a single row in pixels used for virtual scrolling, the estimate
+   * is replaced by the measured height of the first rendered row once rows are rendered.
+   *
+   * @param virtualRowHeight The estimated row height.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualRowHeight(double virtualRowHeight) {
+    if (virtualRowHeight > 0) {
+      this.virtualRowHeight = virtualRowHeight;
+    }
+    return this;
+  }
+
+  /**
+   * Retrieves the number of extra rows rendered above and below the scroll viewport in virtual
+   * scrolling mode.
+   *
+   * @return The overscan rows count.
+   */
+  public int getVirtualOverscan() {
+    return virtualOverscan;
+  }
+
+  /**
+   * Sets the number of extra rows rendered above and below the scroll viewport in virtual scrolling
+   * mode.
+   *
+   * @param virtualOverscan The overscan rows count.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualOverscan(int virtualOverscan) {
+    this.virtualOverscan = Math.max(0, virtualOverscan);
+    return this;
+  }
+
+  /**
+   * Checks if the table row cells are rendered in column virtualization mode.
+   *
+   * @return {@code true} if column virtualization is enabled, {@code false} otherwise.
+   */
+  public boolean isColumnVirtualization() {
+    return columnVirtualization;
+  }
+
+  /**
+   * Enables or disables column virtualization mode. In this mode the rows of a fixed table render
+   * cells only for the columns that intersect the horizontal scroll viewport plus an overscan
+   * buffer, while consecutive columns without cells are covered by a single spacer cell spanning
+   * them, so the header keeps the columns geometry. Plugin columns, pinned columns and hidden
+   * columns are always rendered. Cells are materialized and discarded as the table is scrolled
+   * horizontally, so {@link TableRow#getCell(String)} returns null for columns out of the window,
+   * and plugins are notified of the discarded cells through {@link
+   * org.dominokit.domino.ui.datatable.plugins.DataTablePlugin#onCellRemoved}.
+   *
+   * <p>Column virtualization requires a fixed table, see {@link #setFixed(boolean)}, and applies
+   * only to rows rendered by the default row renderer. Rows being edited render all their cells.
+   *
+   * @param columnVirtualization {@code true} to enable column virtualization, {@code false} to
+   *     disable.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setColumnVirtualization(boolean columnVirtualization) {
+    this.columnVirtualization = columnVirtualization;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of extra columns rendered before and after the horizontal scroll viewport
+   * in column virtualization mode.
+   *
+   * @return The overscan columns count.
+   */
+  public int getVirtualColumnOverscan() {
+    return virtualColumnOverscan;
+  }
+
+  /**
+   * Sets the number of extra columns rendered before and after the horizontal scroll viewport in
+   * column virtualization mode.
+   *
+   * @param virtualColumnOverscan The overscan columns count.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setVirtualColumnOverscan(int virtualColumnOverscan) {
+    this.virtualColumnOverscan = Math.max(0, virtualColumnOverscan);
+    return this;
+  }
+
+  /**
+   * Checks if table rows are recycled when the table data changes.
+   *
+   * @return {@code true} if rows recycling is enabled, {@code false} otherwise.
+   */
+  public boolean isRowsRecycling() {
+    return rowsRecycling;
+  }
+
+  /**
+   * Enables or disables rows recycling. When enabled, the rows removed when the table data changes
+   * are kept detached in a pool and are rebound to new records instead of creating new rows, only
+   * the non plugin cells of a recycled row are refreshed. Plugins that keep per record state on
+   * rows should refresh it in {@link DataTablePlugin#onRowRecycled(DataTable, TableRow)}.
+   *
+   * <p>Only root rows that have no child rows and are not being edited are recycled, and plugins
+   * can exclude rows with {@link DataTablePlugin#isRowRecyclable(DataTable, TableRow)}.
+   *
+   * @param rowsRecycling {@code true} to enable rows recycling, {@code false} to disable.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setRowsRecycling(boolean rowsRecycling) {
+    this.rowsRecycling = rowsRecycling;
+    return this;
+  }
+
+  /**
+   * Retrieves the maximum number of detached rows kept for recycling.
+   *
+   * @return The rows pool size.
+   */
+  public int getRowsPoolSize() {
+    return rowsPoolSize;
+  }
+
+  /**
+   * Sets the maximum number of detached rows kept for recycling, rows removed while the pool is
+   * full are discarded.
+   *
+   * @param rowsPoolSize The rows pool size.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setRowsPoolSize(int rowsPoolSize) {
+    this.rowsPoolSize = Math.max(0, rowsPoolSize);
+    return this;
+  }
+
+  /**
+   * Checks if the table rows are rendered in chunks.
+   *
+   * @return {@code true} if chunked rendering is enabled, {@code false} otherwise.
+   */
+  public boolean isChunkedRendering() {
+    return chunkedRendering;
+  }
+
+  /**
+   * Enables or disables chunked rendering. When enabled, data larger than the render chunk size is
+   * rendered in chunks, the first chunk is rendered immediately and each following chunk is built
+   * in a document fragment and attached in a later animation frame. A {@link
+   * org.dominokit.domino.ui.datatable.events.RowsRenderProgressEvent} is fired after each chunk,
+   * plugins are notified that all rows are added and the table data updated event is fired after
+   * the last one.
+   *
+   * <p>Chunked rendering is only applied when the table uses the default row appender.
+   *
+   * @param chunkedRendering {@code true} to render rows in chunks, {@code false} otherwise.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setChunkedRendering(boolean chunkedRendering) {
+    this.chunkedRendering = chunkedRendering;
+    return this;
+  }
+
+  /**
+   * Retrieves the number of rows rendered per chunk when chunked rendering is enabled.
+   *
+   * @return The render chunk size.
+   */
+  public int getRenderChunkSize() {
+    return renderChunkSize;
+  }
+
+  /**
+   * Sets the number of rows rendered per chunk when chunked rendering is enabled.
+   *
+   * @param renderChunkSize The render chunk size, must be at least 1.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setRenderChunkSize(int renderChunkSize) {
+    this.renderChunkSize = Math.max(1, renderChunkSize);
+    return this;
+  }
+
+  boolean isDefaultRowAppender() {
+    return rowAppender == defaultRowAppender;
+  }
+
+  /**
+   * Retrieves the key provider used to identify the table records.
+   *
+   * @return The records key provider, or {@code null} if not set.
+   */
+  public RecordKeyProvider<T> getRecordKeyProvider() {
+    return recordKeyProvider;
+  }
+
+  /**
+   * Sets a key provider used to identify the table records. When set, setting new data to the
+   * table reconciles the rendered rows by record identity, rows of records that are still present
+   * are moved to their new positions and keep their state like selection, flags, expanded child
+   * rows and details panels, rows are created only for new records and removed only for departed
+   * ones.
+   *
+   * <p>Reconciliation is not applied in virtual scrolling mode, and it is not compatible with
+   * plugins that append rows to custom positions like the grouping plugin.
+   *
+   * @param recordKeyProvider The records key provider, or {@code null} to redraw all rows on data
+   *     changes.
+   * @return The current instance of {@link TableConfig} for chaining.
+   */
+  public TableConfig<T> setRecordKeyProvider(RecordKeyProvider<T> recordKeyProvider) {
+    this.recordKeyProvider = recordKeyProvider;
+    return this;
+  }
+
   /**
    * Sets the minimum width of the table.
    *
@@ -21,9 +21,11 @@ import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.HTMLTableCellElement;
 import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.Node;
 import java.util.*;
 import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import org.dominokit.domino.ui.elements.TDElement;
 import org.dominokit.domino.ui.forms.FieldsGrouping;
 import org.dominokit.domino.ui.forms.validations.ValidationResult;
 import org.dominokit.domino.ui.style.BooleanCssClass;
@@ -44,7 +46,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
         DataTableStyles {
   private T record;
   private boolean selected = false;
-  private final int index;
+  private int index;
   private DataTable<T> dataTable;
   private final Map<String, RowCell<T>> rowCells = new HashMap<>();
 
@@ -66,6 +68,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
 
   private FieldsGrouping rowFieldsGroup = FieldsGrouping.create();
   private boolean draggable = true;
+  private final List<TDElement> columnSpacers = new ArrayList<>();
 
   /**
    * Constructs a table row with the given record, index, and parent table.
@@ -80,6 +83,9 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     this.dataTable = dataTable;
     init(this);
     addCss(dui_datatable_row);
+    if (nonNull(dataTable)) {
+      dataTable.registerRow(this);
+    }
   }
 
   /**
@@ -89,6 +95,9 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    */
   public void setRecord(T record) {
     this.record = record;
+    if (nonNull(dataTable)) {
+      dataTable.registerRowRecord(this);
+    }
   }
 
   /** @return A modified record containing changes made to the row. */
@@ -128,7 +137,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
                 }
               });
       triggerSelectionListeners(this, this);
-      this.dataTable.triggerSelectionListeners(this, dataTable.getSelection());
+      this.dataTable.onRowSelectionChanged(this, true);
     }
     return this;
   }
@@ -168,7 +177,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
       Optional.ofNullable(parent).ifPresent(tableRow -> tableRow.doDeselect(true, false));
     }
     triggerDeselectionListeners(this, this);
-    this.dataTable.triggerDeselectionListeners(this, dataTable.getSelection());
+    this.dataTable.onRowSelectionChanged(this, false);
     return this;
   }
 
@@ -485,6 +494,63 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     return index;
   }
 
+  /**
+   * Rebinds this row to a new record so it can be reused instead of creating a new row. The row
+   * selection and flags are reset and the non plugin cells are refreshed, the cells visibility
+   * follows the column css rules so nothing is registered on the columns again.
+   *
+   * @param record The new record of the row.
+   */
+  void recycle(T record) {
+    if (selected) {
+      this.selected = false;
+      triggerDeselectionListeners(this, this);
+    }
+    flags.clear();
+    removeCss(table_row_filtered);
+    rebind(record);
+    if (isColumnsVirtualized()) {
+      renderColumnsWindow();
+    }
+  }
+
+  /**
+   * Sets the record of this row and refreshes its non plugin cells, the row state is kept.
+   *
+   * @param record The new record of the row.
+   */
+  void rebind(T record) {
+    this.record = record;
+    dataTable.registerRowRecord(this);
+    rowCells.values().stream()
+        .filter(rowCell -> !rowCell.getColumnConfig().isPluginColumn())
+        .forEach(RowCell::updateCell);
+  }
+
+  /**
+   * Checks if this row can be kept for recycling, only root rows without children that are not
+   * being edited and that every plugin accepts can be recycled.
+   *
+   * @return true if the row can be recycled, false otherwise.
+   */
+  boolean isRecyclable() {
+    return isRoot()
+        && !isParent()
+        && !isEditable()
+        && dataTable.getTableConfig().getPlugins().stream()
+            .allMatch(plugin -> plugin.isRowRecyclable(dataTable, this));
+  }
+
+  /**
+   * Sets the index of the row in the data table, used when rows are inserted or removed without
+   * redrawing the whole table.
+   *
+   * @param index The new index of the row.
+   */
+  void setIndex(int index) {
+    this.index = index;
+  }
+
   /** Updates the row with the current record. */
   public void updateRow() {
     updateRow(this.record);
@@ -497,6 +563,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    */
   public void updateRow(T record) {
     this.record = record;
+    dataTable.registerRowRecord(this);
     rowCells.values().forEach(RowCell::updateCell);
     this.dataTable.fireTableEvent(new RowRecordUpdatedEvent<>(this));
     this.dataTable.fireTableEvent(
@@ -544,9 +611,89 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
       rendererMeta.get().getRowRenderer().render(dataTable, this);
     } else {
       rowRenderer.render(dataTable, this);
+      if (isColumnsVirtualized()) {
+        renderColumnsWindow();
+      }
     }
   }
 
+  /**
+   * Checks if the cells of this row follow the table columns window, only rows rendered by the
+   * default row renderer are virtualized.
+   *
+   * @return true if the row cells are virtualized, false otherwise.
+   */
+  private boolean isColumnsVirtualized() {
+    return nonNull(dataTable)
+        && dataTable.isColumnVirtualization()
+        && !RowRendererMeta.get(this).isPresent();
+  }
+
+  /**
+   * Renders the cells of the columns that entered the table columns window and removes the cells of
+   * the columns that left it, consecutive columns without cells are covered by a single spacer cell
+   * spanning them so the row keeps the columns geometry of the table header. The plugins are
+   * notified of each removed cell. A row being edited renders the cells of all the columns so that
+   * its editors stay registered in the row fields group.
+   */
+  void renderColumnsWindow() {
+    if (!isColumnsVirtualized()) {
+      return;
+    }
+    Node current = element.firstChild;
+    int spacers = 0;
+    int skipped = 0;
+    for (ColumnConfig<T> column : dataTable.getTableConfig().getColumns()) {
+      RowCell<T> rowCell = rowCells.get(column.getName());
+      if (isEditable() || dataTable.isColumnRendered(column)) {
+        if (skipped > 0) {
+          current = placeNode(columnSpacer(spacers++, skipped).element(), current);
+          skipped = 0;
+        }
+        if (isNull(rowCell)) {
+          insertCell(column, current);
+        } else {
+          current = placeNode(rowCell.getCellInfo().getElement(), current);
+        }
+      } else {
+        if (nonNull(rowCell)) {
+          HTMLTableCellElement cellElement = rowCell.getCellInfo().getElement();
+          if (cellElement == current) {
+            current = current.nextSibling;
+          }
+          rowCells.remove(column.getName());
+          elementOf(cellElement).remove();
+          dataTable
+              .getTableConfig()
+              .getPlugins()
+              .forEach(plugin -> plugin.onCellRemoved(dataTable, this, rowCell));
+        }
+        skipped++;
+      }
+    }
+    if (skipped > 0) {
+      placeNode(columnSpacer(spacers++, skipped).element(), current);
+    }
+    while (columnSpacers.size() > spacers) {
+      columnSpacers.remove(columnSpacers.size() - 1).remove();
+    }
+  }
+
+  private TDElement columnSpacer(int index, int colspan) {
+    if (index == columnSpacers.size()) {
+      columnSpacers.add(td().addCss(dui_datatable_column_spacer));
+    }
+    return columnSpacers.get(index).setAttribute("colspan", colspan);
+  }
+
+  private Node placeNode(Node node, Node current) {
+    if (node == current) {
+      return current.nextSibling;
+    }
+    element.insertBefore(node, current);
+    return current;
+  }
+
   /**
    * Interface to listen for changes on a TableRow.
    *
@@ -569,6 +716,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    */
   public void edit() {
     setEditable(true);
+    renderColumnsWindow();
     this.rowFieldsGroup.removeAllFormElements();
     updateRow();
     this.dataTable.getTableConfig().getOnRowEditHandler().accept(this);
@@ -588,6 +736,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
       this.setEditable(false);
       updateRow();
       rowFieldsGroup.removeAllFormElements();
+      renderColumnsWindow();
       this.dataTable.getTableConfig().getOnRowFinishEditHandler().accept(this);
     }
   }
@@ -600,6 +749,7 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     this.setEditable(false);
     updateRow();
     rowFieldsGroup.removeAllFormElements();
+    renderColumnsWindow();
     this.dataTable.getTableConfig().getOnRowFinishEditHandler().accept(this);
   }
 
@@ -631,16 +781,27 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
    * @param columnConfig The configuration information for the column to which this cell belongs.
    */
   public void renderCell(ColumnConfig<T> columnConfig) {
+    if (isColumnsVirtualized() && !dataTable.isColumnRendered(columnConfig)) {
+      return;
+    }
+    insertCell(columnConfig, null);
+  }
+
+  /**
+   * Renders a cell for the given column and inserts it before the provided node.
+   *
+   * @param columnConfig The configuration information for the column to which this cell belongs.
+   * @param before The node the cell is inserted before, null to append the cell.
+   */
+  private void insertCell(ColumnConfig<T> columnConfig, Node before) {
     HTMLTableCellElement cellElement = td().addCss(dui_datatable_td).element();
 
-    ColumnCssRuleMeta.get(columnConfig)
-        .ifPresent(
-            meta ->
-                meta.cssRules()
-                    .forEach(
-                        columnCssRule ->
-                            elementOf(cellElement)
-                                .addCss(columnCssRule.getCssRule().getCssClass())));
+    dataTable
+        .getColumnCssRuleMeta(columnConfig)
+        .cssRules()
+        .forEach(
+            columnCssRule ->
+                elementOf(cellElement).addCss(columnCssRule.getCssRule().getCssClass()));
 
     RowCell<T> rowCell =
         new RowCell<>(new CellRenderer.CellInfo<>(this, cellElement), columnConfig);
@@ -650,19 +811,15 @@ public class TableRow<T> extends BaseDominoElement<HTMLTableRowElement, TableRow
     columnConfig.applyScreenMedia(cellElement);
 
     columnConfig.applyCellStyle(cellElement);
-    if (columnConfig.isHidden()) {
-      elementOf(cellElement).hide();
-    }
     dataTable
         .getTableConfig()
         .getPlugins()
         .forEach(plugin -> plugin.onBeforeAddCell(dataTable, this, rowCell));
-    element().appendChild(cellElement);
+    element().insertBefore(cellElement, before);
     dataTable
         .getTableConfig()
         .getPlugins()
         .forEach(plugin -> plugin.onAfterAddCell(dataTable, this, rowCell));
-    columnConfig.addShowHideListener(DefaultColumnShowHideListener.of(cellElement));
   }
 
   /**
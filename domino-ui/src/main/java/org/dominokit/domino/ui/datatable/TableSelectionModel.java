@@ -0,0 +1,240 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable;
+
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.dominokit.domino.ui.datatable.store.RecordKeyProvider;
+
+/**
+ * The {@code TableSelectionModel} keeps track of the selected records of a {@link DataTable}. The
+ * selected records are kept by key, using the table {@link TableConfig#getRecordKeyProvider()}
+ * when set or the record itself otherwise, so checking if a record is selected and counting the
+ * selection do not require going through the table rows.
+ *
+ * <p>When selection retaining is enabled the selection persists across data changes, e.g. pages,
+ * searches and sorting, records that are selected but not currently rendered stay selected and
+ * their rows are selected again once they are rendered.
+ *
+ * @param <T> the type of the data table records
+ */
+public class TableSelectionModel<T> {
+
+  private final DataTable<T> dataTable;
+  private final Map<Object, T> selectedRecords = new LinkedHashMap<>();
+  private final Set<TableRow<T>> selectedRows = new LinkedHashSet<>();
+  private boolean retainSelection = false;
+
+  /**
+   * Creates a selection model for the provided table.
+   *
+   * @param dataTable the data table
+   */
+  TableSelectionModel(DataTable<T> dataTable) {
+    this.dataTable = dataTable;
+  }
+
+  private Object keyOf(T record) {
+    RecordKeyProvider<T> keyProvider = dataTable.getTableConfig().getRecordKeyProvider();
+    return nonNull(keyProvider) ? keyProvider.getKey(record) : record;
+  }
+
+  /**
+   * Checks if a record is selected, whether its row is currently rendered or not.
+   *
+   * @param record the record to check
+   * @return true if the record is selected, false otherwise
+   */
+  public boolean isSelected(T record) {
+    return selectedRecords.containsKey(keyOf(record));
+  }
+
+  /**
+   * Retrieves the selected records in the order they were selected, including the selected records
+   * that are not currently rendered when selection retaining is enabled.
+   *
+   * @return a list of the selected records
+   */
+  public List<T> getSelectedRecords() {
+    return new ArrayList<>(selectedRecords.values());
+  }
+
+  /**
+   * Retrieves the number of selected records.
+   *
+   * @return the selected records count
+   */
+  public int getSelectedCount() {
+    return selectedRecords.size();
+  }
+
+  /**
+   * Retrieves the currently rendered rows that are selected in the order they were selected,
+   * without going through the table rows.
+   *
+   * @return a list of the selected rows
+   */
+  public List<TableRow<T>> getSelectedRows() {
+    return new ArrayList<>(selectedRows);
+  }
+
+  /**
+   * Retrieves the number of currently rendered rows that are selected.
+   *
+   * @return the selected rows count
+   */
+  public int getSelectedRowsCount() {
+    return selectedRows.size();
+  }
+
+  /**
+   * Checks if the selection persists across data changes.
+   *
+   * @return true if selection retaining is enabled, false otherwise
+   */
+  public boolean isRetainSelection() {
+    return retainSelection;
+  }
+
+  /**
+   * Sets whether the selection persists across data changes. When disabled, the selection is
+   * cleared whenever the table rows are redrawn for new data.
+   *
+   * @param retainSelection true to keep the selection across data changes, false otherwise
+   * @return the current selection model instance
+   */
+  public TableSelectionModel<T> setRetainSelection(boolean retainSelection) {
+    this.retainSelection = retainSelection;
+    return this;
+  }
+
+  /**
+   * Selects the provided records, rendered rows of these records are selected and the table
+   * selection listeners are notified once.
+   *
+   * @param records the records to select
+   * @return the current selection model instance
+   */
+  public TableSelectionModel<T> selectRecords(Collection<T> records) {
+    Set<Object> keys = new HashSet<>();
+    for (T record : records) {
+      Object key = keyOf(record);
+      keys.add(key);
+      selectedRecords.put(key, record);
+    }
+    dataTable.withPauseSelectionListenersToggle(
+        true,
+        table ->
+            table.getRows().stream()
+                .filter(tableRow -> !tableRow.isSelected())
+                .filter(tableRow -> keys.contains(keyOf(tableRow.getRecord())))
+                .forEach(TableRow::select));
+    dataTable.triggerSelectionListeners(null, getSelectedRows());
+    return this;
+  }
+
+  /**
+   * Deselects the provided records, rendered rows of these records are deselected and the table
+   * deselection listeners are notified once.
+   *
+   * @param records the records to deselect
+   * @return the current selection model instance
+   */
+  public TableSelectionModel<T> deselectRecords(Collection<T> records) {
+    Set<Object> keys = new HashSet<>();
+    for (T record : records) {
+      Object key = keyOf(record);
+      keys.add(key);
+      selectedRecords.remove(key);
+    }
+    dataTable.withPauseSelectionListenersToggle(
+        true,
+        table ->
+            new ArrayList<>(selectedRows)
+                .stream()
+                .filter(tableRow -> keys.contains(keyOf(tableRow.getRecord())))
+                .forEach(TableRow::deselect));
+    dataTable.triggerDeselectionListeners(null, getSelectedRows());
+    return this;
+  }
+
+  /**
+   * Clears the selection including the selected records that are not currently rendered, the table
+   * deselection listeners are notified once.
+   *
+   * @return the current selection model instance
+   */
+  public TableSelectionModel<T> clear() {
+    selectedRecords.clear();
+    dataTable.withPauseSelectionListenersToggle(
+        true, table -> new ArrayList<>(selectedRows).forEach(TableRow::deselect));
+    dataTable.triggerDeselectionListeners(null, new ArrayList<>());
+    return this;
+  }
+
+  /**
+   * Updates the model after a rendered row was selected or deselected.
+   *
+   * @param tableRow the row
+   * @param selected the new selection state of the row
+   */
+  void onRowSelectionChanged(TableRow<T> tableRow, boolean selected) {
+    if (selected) {
+      selectedRows.add(tableRow);
+      selectedRecords.put(keyOf(tableRow.getRecord()), tableRow.getRecord());
+    } else {
+      selectedRows.remove(tableRow);
+      selectedRecords.remove(keyOf(tableRow.getRecord()));
+    }
+  }
+
+  /**
+   * Forgets a row that is no longer rendered, the selection state of its record is kept.
+   *
+   * @param tableRow the released row
+   */
+  void onRowReleased(TableRow<T> tableRow) {
+    selectedRows.remove(tableRow);
+  }
+
+  /**
+   * Forgets a record that was removed from the table data.
+   *
+   * @param record the removed record
+   */
+  void onRecordRemoved(T record) {
+    selectedRecords.remove(keyOf(record));
+  }
+
+  /**
+   * Forgets all the rendered rows after the table rows are cleared, the selected records are kept
+   * only if selection retaining is enabled.
+   */
+  void onRowsCleared() {
+    selectedRows.clear();
+    if (!retainSelection) {
+      selectedRecords.clear();
+    }
+  }
+}
@@ -0,0 +1,80 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.events;
+
+/**
+ * The {@code RowsRenderProgressEvent} class represents an event that is fired after each chunk of
+ * rows is rendered when the DataTable renders its rows in chunks.
+ *
+ * @see org.dominokit.domino.ui.datatable.TableConfig#setChunkedRendering(boolean)
+ * @see org.dominokit.domino.ui.datatable.events.TableEvent
+ */
+public class RowsRenderProgressEvent implements TableEvent {
+
+  /** The event type for the rows render progress event. */
+  public static final String ROWS_RENDER_PROGRESS = "rows-render-progress";
+
+  private final int renderedCount;
+  private final int totalCount;
+
+  /**
+   * Creates a new {@code RowsRenderProgressEvent}.
+   *
+   * @param renderedCount the number of rows rendered so far
+   * @param totalCount the total number of rows to be rendered
+   */
+  public RowsRenderProgressEvent(int renderedCount, int totalCount) {
+    this.renderedCount = renderedCount;
+    this.totalCount = totalCount;
+  }
+
+  /**
+   * Retrieves the type of this event.
+   *
+   * @return the event type
+   */
+  @Override
+  public String getType() {
+    return ROWS_RENDER_PROGRESS;
+  }
+
+  /**
+   * Retrieves the number of rows rendered so far.
+   *
+   * @return the rendered rows count
+   */
+  public int getRenderedCount() {
+    return renderedCount;
+  }
+
+  /**
+   * Retrieves the total number of rows to be rendered.
+   *
+   * @return the total rows count
+   */
+  public int getTotalCount() {
+    return totalCount;
+  }
+
+  /**
+   * Checks if all the rows are rendered.
+   *
+   * @return true if this is the event of the last chunk, false otherwise
+   */
+  public boolean isCompleted() {
+    return renderedCount >= totalCount;
+  }
+}
@@ -16,6 +16,12 @@
 
 package org.dominokit.domino.ui.datatable.events;
 
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Set;
+import org.dominokit.domino.ui.datatable.DataTable;
+
 /**
  * The {@code TableEventListener} interface defines a contract for classes that can handle table
  * events. Implementing classes should provide an implementation for the {@code handleEvent} method.
@@ -28,4 +34,38 @@ public interface TableEventListener {
    * @param event the table event to handle
    */
   void handleEvent(TableEvent event);
+
+  /**
+   * Declares the types of the table events this listener consumes. When the listener is registered
+   * using {@link DataTable#addTableEventListener(TableEventListener)} it will only receive events
+   * of the declared types, an empty set means the listener does not consume any table event.
+   *
+   * <p>By default the listener is registered for {@link DataTable#ANY} and receives all events. The
+   * built-in listeners declare their event types with {@link
+   * #handledEventTypes(TableEventListener, Class, String...)}, so their subclasses keep receiving
+   * all events unless they override this method as well.
+   *
+   * @return the set of event types handled by this listener
+   */
+  default Set<String> getHandledEventTypes() {
+    return Collections.singleton(DataTable.ANY);
+  }
+
+  /**
+   * Returns the specified event types when the listener is an instance of the declaring class
+   * itself, and {@link DataTable#ANY} when it is an instance of a subclass, since a subclass may
+   * override {@link #handleEvent(TableEvent)} to consume other events.
+   *
+   * @param listener the listener declaring its event types
+   * @param declaringClass the class that declares the event types
+   * @param eventTypes the event types handled by the declaring class
+   * @return the set of event types handled by the listener
+   */
+  static Set<String> handledEventTypes(
+      TableEventListener listener, Class<?> declaringClass, String... eventTypes) {
+    if (listener.getClass() != declaringClass) {
+      return Collections.singleton(DataTable.ANY);
+    }
+    return new HashSet<>(Arrays.asList(eventTypes));
+  }
 }
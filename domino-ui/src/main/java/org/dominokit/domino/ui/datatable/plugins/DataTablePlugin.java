@@ -111,6 +111,40 @@ public interface DataTablePlugin<T>
    */
   default void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {}
 
+  /**
+   * Called when a recycled row is rebound to a new record and appended to the DataTable, see
+   * {@link org.dominokit.domino.ui.datatable.TableConfig#setRowsRecycling(boolean)}. Recycled rows
+   * keep what was attached to them when they were first added, so this is the place to refresh any
+   * state that depends on the row record.
+   *
+   * @param dataTable The DataTable instance.
+   * @param tableRow The recycled TableRow.
+   */
+  default void onRowRecycled(DataTable<T> dataTable, TableRow<T> tableRow) {}
+
+  /**
+   * Checks if a row can be kept for recycling, see {@link
+   * org.dominokit.domino.ui.datatable.TableConfig#setRowsRecycling(boolean)}. Plugins whose rows
+   * state cannot be refreshed in {@link #onRowRecycled(DataTable, TableRow)} should return {@code
+   * false} so that new rows are created for the new records instead.
+   *
+   * @param dataTable The DataTable instance.
+   * @param tableRow The TableRow being released.
+   * @return {@code true} if the row can be recycled, {@code false} otherwise.
+   */
+  default boolean isRowRecyclable(DataTable<T> dataTable, TableRow<T> tableRow) {
+    return true;
+  }
+
+  /**
+   * Called when a single row is removed from the DataTable while patching the table rows, this is
+   * not called when all rows are cleared to draw new data.
+   *
+   * @param dataTable The DataTable instance.
+   * @param tableRow The TableRow that was removed.
+   */
+  default void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow) {}
+
   /**
    * Called after all rows are added to the DataTable.
    *
@@ -143,6 +177,17 @@ public interface DataTablePlugin<T>
    */
   default void onAfterAddCell(DataTable<T> dataTable, TableRow<T> tableRow, RowCell<T> rowCell) {}
 
+  /**
+   * Called after a cell is removed from a row that stays rendered, for example when its column
+   * leaves the rendered columns window of a table with column virtualization. Plugins should
+   * release what they attached to the cell.
+   *
+   * @param dataTable The DataTable instance.
+   * @param tableRow The TableRow from which the cell was removed.
+   * @param rowCell The RowCell that was removed.
+   */
+  default void onCellRemoved(DataTable<T> dataTable, TableRow<T> tableRow, RowCell<T> rowCell) {}
+
   /** {@inheritDoc} */
   @Override
   default void handleEvent(TableEvent event) {}
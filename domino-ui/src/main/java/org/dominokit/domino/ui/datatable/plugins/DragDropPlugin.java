@@ -25,6 +25,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import org.dominokit.domino.ui.datatable.CellRenderer;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
@@ -33,6 +34,7 @@ import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.RecordDraggedOutEvent;
 import org.dominokit.domino.ui.datatable.events.RecordDroppedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.dnd.DragSource;
 import org.dominokit.domino.ui.dnd.Draggable;
 import org.dominokit.domino.ui.dnd.DropZone;
@@ -195,6 +197,20 @@ public class DragDropPlugin<T> implements DataTablePlugin<T> {
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this,
+        DragDropPlugin.class,
+        RecordDraggedOutEvent.RECORD_DRAGGED_OUT,
+        RecordDroppedEvent.RECORD_DROPPED);
+  }
+
   /**
    * Finds a TableRow by its unique identifier (draggableId) within a DataTable.
    *
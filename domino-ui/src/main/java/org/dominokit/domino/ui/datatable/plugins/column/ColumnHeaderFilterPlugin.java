@@ -23,11 +23,13 @@ import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.HTMLElement;
 import java.util.List;
+import java.util.Set;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.datatable.*;
 import org.dominokit.domino.ui.datatable.ColumnHeader;
 import org.dominokit.domino.ui.datatable.events.SearchClearedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.model.SearchContext;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.elements.THeadElement;
@@ -157,6 +159,17 @@ public class ColumnHeaderFilterPlugin<T> implements DataTablePlugin<T> {
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, ColumnHeaderFilterPlugin.class, SearchClearedEvent.SEARCH_EVENT_CLEARED);
+  }
+
   /**
    * Gets the HTML element that contains the header filters.
    *
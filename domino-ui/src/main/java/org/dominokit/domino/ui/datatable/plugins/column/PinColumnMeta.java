@@ -146,6 +146,34 @@ public class PinColumnMeta implements ComponentMeta, PinColumnFunction {
     return direction.pin(column, position);
   }
 
+  /**
+   * Writes the pin offset of the column into its pin css rule and raises its header above the
+   * pinned cells, this only writes styles and does not measure the column.
+   *
+   * @param column The column to be pinned.
+   * @param offset The offset of the column from the pinned side.
+   */
+  void applyPin(ColumnConfig<?> column, double offset) {
+    String side = isLeftPin() ? "left" : "right";
+    ColumnCssRuleMeta.get(column)
+        .flatMap(cssMeta -> cssMeta.getColumnCssRule(PIN_COLUMNS_CSS_RULE))
+        .ifPresent(
+            pinCssRule -> {
+              DominoCSSRule style = pinCssRule.getCssRule();
+              style.setProperty(isLeftPin() ? "right" : "left", "auto");
+              style.setProperty("position", "sticky");
+              style.setProperty(side, offset + "px");
+              style.setProperty("z-index", "1");
+            });
+    column.getHeadElement().setCssProperty("z-index", "2");
+    ColumnHeaderMeta.get(column)
+        .ifPresent(
+            columnHeaderMeta ->
+                columnHeaderMeta
+                    .getExtraHeadElements()
+                    .forEach(element -> element.setCssProperty("z-index", "2")));
+  }
+
   /** Enumeration representing the pin direction for columns. */
   public enum PinDirection implements PinColumnFunction {
     LEFT(PinDirection::pinHeaderLeft),
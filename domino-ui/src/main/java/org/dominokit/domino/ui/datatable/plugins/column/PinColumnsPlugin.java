@@ -19,7 +19,10 @@ import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.DomGlobal;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.ColumnCssRuleMeta;
@@ -29,6 +32,7 @@ import org.dominokit.domino.ui.datatable.events.ColumnResizedEvent;
 import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableBorderedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
 import org.dominokit.domino.ui.icons.Icon;
@@ -73,7 +77,10 @@ import org.dominokit.domino.ui.utils.PrefixAddOn;
  * when a column's header is right-clicked. The menu allows users to easily pin/unpin columns.
  *
  * <p>This plugin listens to various DataTable events such as column resizing and updates to ensure
- * that pinned columns stay in the correct position.
+ * that pinned columns stay in the correct position. The pin offsets are applied through one css
+ * rule per column in the table dynamic style sheet, the pinned columns are measured in a single
+ * pass once per frame and only the rules of the columns whose offset changed are rewritten, so rows
+ * added later are pinned by the existing rules without any extra work.
  *
  * <p><strong>Notes:</strong> - Pinning a column to the left will also pin all columns to the left
  * of that column. - Pinning a column to the right will also pin all columns to the right of that
@@ -108,6 +115,12 @@ public class PinColumnsPlugin<T>
   /** The currently pinned column to the right. */
   private ColumnConfig<T> pinRightColumn;
 
+  /** The pin offsets written to the css rules of the pinned columns, keyed by the column name. */
+  private final Map<String, String> appliedPins = new HashMap<>();
+
+  /** Whether pinning the columns is already scheduled for the next animation frame. */
+  private boolean pinScheduled = false;
+
   /**
    * Initializes the PinColumnsPlugin for a specific DataTable instance.
    *
@@ -202,27 +215,9 @@ public class PinColumnsPlugin<T>
     datatable
         .getTableConfig()
         .getColumnsGrouped()
-        .forEach(
-            group ->
-                group.applyAndOnSubColumns(
-                    column -> {
-                      ColumnCssRuleMeta.get(column)
-                          .flatMap(cssMeta -> cssMeta.getColumnCssRule(PIN_COLUMNS_CSS_RULE))
-                          .ifPresent(
-                              pinCssRule -> {
-                                pinCssRule.getCssRule().removeProperty("position");
-                                pinCssRule.getCssRule().removeProperty("z-index");
-                              });
-                      column.getHeadElement().removeCssProperty("z-index");
-                      ColumnHeaderMeta.get(column)
-                          .ifPresent(
-                              columnHeaderMeta -> {
-                                columnHeaderMeta
-                                    .getExtraHeadElements()
-                                    .forEach(element -> element.removeCssProperty("z-index"));
-                              });
-                    }));
+        .forEach(group -> group.applyAndOnSubColumns(this::removePin));
 
+    appliedPins.clear();
     datatable.getDynamicStyleSheet().flush();
   }
 
@@ -457,6 +452,21 @@ public class PinColumnsPlugin<T>
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this,
+        PinColumnsPlugin.class,
+        TableBorderedEvent.TABLE_BORDERED_EVENT,
+        RowRecordUpdatedEvent.RECORD_UPDATED,
+        ColumnResizedEvent.COLUMN_RESIZED);
+  }
+
   /**
    * Applies pinned columns when all rows are added to the DataTable.
    *
@@ -480,7 +490,6 @@ public class PinColumnsPlugin<T>
    * for determining which columns to pin and updating their positions.
    */
   private void pinColumns() {
-    onBeforeSetPinColumn();
     if (datatable.isAttached()) {
       pinColumnsForAttachedTable();
     } else {
@@ -490,41 +499,147 @@ public class PinColumnsPlugin<T>
   }
 
   /**
-   * Pins columns for a DataTable that is currently attached to the DOM. This method calculates the
-   * positions of pinned columns and ensures they remain correctly positioned.
+   * Pins columns for a DataTable that is currently attached to the DOM. The positions of the pinned
+   * columns are measured in the next animation frame before any style is written, then only the
+   * css rules of the columns whose position changed are updated. Several requests in the same frame
+   * are handled once.
    */
   private void pinColumnsForAttachedTable() {
+    if (pinScheduled) {
+      return;
+    }
+    pinScheduled = true;
     ElementUtil.withBodyObserverPaused(
         () -> {
           DomGlobal.requestAnimationFrame(
               timestamp -> {
-                double[] leftHeaderOffset = new double[] {0};
-                double[] rightHeaderOffset = new double[] {0};
-                datatable
-                    .getTableConfig()
-                    .getColumnsGrouped()
-                    .forEach(
-                        column -> {
-                          if (PinColumnMeta.isPinLeft(column)) {
-                            leftHeaderOffset[0] =
-                                PinColumnMeta.get(column).get().pin(column, leftHeaderOffset[0]);
-                          }
-                        });
-
-                List<ColumnConfig<T>> groupedColumns =
-                    datatable.getTableConfig().getColumnsGrouped();
-                for (int i = groupedColumns.size() - 1; i >= 0; i--) {
-                  ColumnConfig<T> column = groupedColumns.get(i);
-                  if (PinColumnMeta.isPinRight(column)) {
-                    rightHeaderOffset[0] =
-                        PinColumnMeta.get(column).get().pin(column, rightHeaderOffset[0]);
-                  }
+                pinScheduled = false;
+                Map<ColumnConfig<T>, PinColumnMeta> subColumnPins = new HashMap<>();
+                Map<ColumnConfig<T>, Double> offsets = measurePinnedColumns(subColumnPins);
+                if (writePinnedColumns(offsets, subColumnPins)) {
+                  this.datatable.getDynamicStyleSheet().flush();
                 }
-                this.datatable.getDynamicStyleSheet().flush();
               });
         });
   }
 
+  /**
+   * Measures the offsets of the pinned columns from their pinned side, this only reads the widths
+   * of the column headers.
+   *
+   * @param subColumnPins receives the pin of each sub column of the pinned groups
+   * @return the offset of each pinned column, including the sub columns of pinned groups
+   */
+  private Map<ColumnConfig<T>, Double> measurePinnedColumns(
+      Map<ColumnConfig<T>, PinColumnMeta> subColumnPins) {
+    Map<ColumnConfig<T>, Double> offsets = new HashMap<>();
+    List<ColumnConfig<T>> groupedColumns = datatable.getTableConfig().getColumnsGrouped();
+    double left = 0;
+    for (ColumnConfig<T> column : groupedColumns) {
+      if (PinColumnMeta.isPinLeft(column)) {
+        left = measureColumn(column, left, false, offsets, subColumnPins);
+      }
+    }
+    double right = 0;
+    for (int i = groupedColumns.size() - 1; i >= 0; i--) {
+      ColumnConfig<T> column = groupedColumns.get(i);
+      if (PinColumnMeta.isPinRight(column)) {
+        right = measureColumn(column, right, true, offsets, subColumnPins);
+      }
+    }
+    return offsets;
+  }
+
+  /**
+   * Records the offset of a column and of its sub columns.
+   *
+   * @param column the pinned column
+   * @param offset the offset of the column from its pinned side
+   * @param reversed true if the sub columns are laid out from the right side
+   * @param offsets the offsets of the measured columns
+   * @param subColumnPins the pins of the measured sub columns, a sub column takes the pin of its
+   *     group
+   * @return the offset of the next column
+   */
+  private double measureColumn(
+      ColumnConfig<T> column,
+      double offset,
+      boolean reversed,
+      Map<ColumnConfig<T>, Double> offsets,
+      Map<ColumnConfig<T>, PinColumnMeta> subColumnPins) {
+    offsets.put(column, offset);
+    if (column.isColumnGroup()) {
+      PinColumnMeta pin =
+          subColumnPins.containsKey(column)
+              ? subColumnPins.get(column)
+              : PinColumnMeta.get(column).get();
+      List<ColumnConfig<T>> subColumns = column.getSubColumns();
+      double childOffset = offset;
+      for (int i = 0; i < subColumns.size(); i++) {
+        ColumnConfig<T> subColumn = subColumns.get(reversed ? subColumns.size() - 1 - i : i);
+        subColumnPins.put(subColumn, pin);
+        childOffset = measureColumn(subColumn, childOffset, reversed, offsets, subColumnPins);
+      }
+    }
+    return offset + column.getHeadElement().getBoundingClientRect().width;
+  }
+
+  /**
+   * Writes the measured offsets into the css rules of the pinned columns and removes the pin from
+   * the columns that are no longer pinned, the columns whose offset did not change are skipped.
+   * The sub columns of the pinned groups get the pin of their group first.
+   *
+   * @param offsets the measured offsets of the pinned columns
+   * @param subColumnPins the pins of the measured sub columns
+   * @return true if any css rule was changed
+   */
+  private boolean writePinnedColumns(
+      Map<ColumnConfig<T>, Double> offsets, Map<ColumnConfig<T>, PinColumnMeta> subColumnPins) {
+    subColumnPins.forEach(ColumnConfig::applyMeta);
+    boolean[] changed = new boolean[] {false};
+    datatable
+        .getTableConfig()
+        .getColumnsGrouped()
+        .forEach(
+            group ->
+                group.applyAndOnSubColumns(
+                    column -> {
+                      Double offset = offsets.get(column);
+                      if (nonNull(offset) && PinColumnMeta.isPinned(column)) {
+                        PinColumnMeta meta = PinColumnMeta.get(column).get();
+                        String pin = (meta.isLeftPin() ? "left:" : "right:") + offset;
+                        if (!pin.equals(appliedPins.put(column.getName(), pin))) {
+                          meta.applyPin(column, offset);
+                          changed[0] = true;
+                        }
+                      } else if (nonNull(appliedPins.remove(column.getName()))) {
+                        removePin(column);
+                        changed[0] = true;
+                      }
+                    }));
+    return changed[0];
+  }
+
+  private void removePin(ColumnConfig<T> column) {
+    ColumnCssRuleMeta.get(column)
+        .flatMap(cssMeta -> cssMeta.getColumnCssRule(PIN_COLUMNS_CSS_RULE))
+        .ifPresent(
+            pinCssRule -> {
+              DominoCSSRule style = pinCssRule.getCssRule();
+              style.removeProperty("position");
+              style.removeProperty("left");
+              style.removeProperty("right");
+              style.removeProperty("z-index");
+            });
+    column.getHeadElement().removeCssProperty("z-index");
+    ColumnHeaderMeta.get(column)
+        .ifPresent(
+            columnHeaderMeta ->
+                columnHeaderMeta
+                    .getExtraHeadElements()
+                    .forEach(element -> element.removeCssProperty("z-index")));
+  }
+
   /**
    * Sets the configuration for this plugin.
    *
@@ -15,9 +15,11 @@
  */
 package org.dominokit.domino.ui.datatable.plugins.column;
 
+import java.util.Set;
 import java.util.function.Supplier;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.dnd.DragSource;
 import org.dominokit.domino.ui.dnd.Draggable;
@@ -62,6 +64,16 @@ public class ReorderColumnsPlugin<T> implements DataTablePlugin<T> {
     }
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, ReorderColumnsPlugin.class);
+  }
+
   /**
    * Sets a custom supplier for the header icon used for column reordering.
    *
@@ -24,6 +24,7 @@ import org.dominokit.domino.ui.datatable.plugins.PluginConfig;
 public class ResizeColumnsConfig implements PluginConfig {
 
   private boolean clipContent = false;
+  private boolean showResizeGuide = false;
 
   /**
    * Checks if content clipping is enabled for column resizing.
@@ -44,4 +45,26 @@ public class ResizeColumnsConfig implements PluginConfig {
     this.clipContent = clipContent;
     return this;
   }
+
+  /**
+   * Checks if a resize guide line is shown while dragging instead of resizing the column.
+   *
+   * @return {@code true} if the resize guide is shown, {@code false} otherwise.
+   */
+  public boolean isShowResizeGuide() {
+    return showResizeGuide;
+  }
+
+  /**
+   * Sets whether to show a resize guide line that follows the pointer while dragging, the column
+   * width is then applied once when the drag is released instead of on every animation frame.
+   *
+   * @param showResizeGuide {@code true} to show the resize guide, {@code false} to resize the
+   *     column while dragging.
+   * @return The ResizeColumnsConfig instance with the updated configuration.
+   */
+  public ResizeColumnsConfig setShowResizeGuide(boolean showResizeGuide) {
+    this.showResizeGuide = showResizeGuide;
+    return this;
+  }
 }
@@ -16,17 +16,23 @@
 
 package org.dominokit.domino.ui.datatable.plugins.column;
 
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_column_resize_guide;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_column_resizer;
 import static org.dominokit.domino.ui.utils.Domino.*;
 import static org.dominokit.domino.ui.utils.Unit.px;
 
+import elemental2.dom.DOMRect;
 import elemental2.dom.DomGlobal;
 import elemental2.dom.EventListener;
 import elemental2.dom.MouseEvent;
+import java.util.Set;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.*;
 import org.dominokit.domino.ui.datatable.events.ColumnResizedEvent;
 import org.dominokit.domino.ui.datatable.events.ColumnResizingEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
 import org.dominokit.domino.ui.elements.DivElement;
@@ -37,6 +43,12 @@ import org.dominokit.domino.ui.utils.DominoDom;
 /**
  * A DataTable plugin that allows users to resize column widths via drag-and-drop.
  *
+ * <p>While dragging, the pointer position is applied at most once per animation frame by updating
+ * the css rules of the resized columns in the table dynamic style sheet, and {@link
+ * ColumnResizingEvent} is fired once per frame. {@link ColumnResizedEvent} is fired when the drag
+ * is released. With {@link ResizeColumnsConfig#setShowResizeGuide(boolean)} only a guide line
+ * follows the pointer and the new width is applied when the drag is released.
+ *
  * @param <T> The data type of the DataTable.
  */
 public class ResizeColumnsPlugin<T>
@@ -47,6 +59,9 @@ public class ResizeColumnsPlugin<T>
 
   private ColumnConfig<T> resizingColumn;
   private boolean resizing = false;
+  private double resizePosition;
+  private boolean resizeFrameScheduled = false;
+  private DivElement resizeGuide;
 
   /**
    * Initializes the plugin and prepares columns for resizing.
@@ -77,6 +92,16 @@ public class ResizeColumnsPlugin<T>
                     }));
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, ResizeColumnsPlugin.class);
+  }
+
   /**
    * Handles the addition of a header to the DataTable and enables column resizing via
    * drag-and-drop.
@@ -102,37 +127,7 @@ public class ResizeColumnsPlugin<T>
                 EventListener resizeListener =
                     evt -> {
                       MouseEvent mouseEvent = Js.uncheckedCast(evt);
-                      column.applyAndOnParents(
-                          col -> {
-                            ResizeColumnMeta.get(col)
-                                .ifPresent(
-                                    meta -> {
-                                      double currentPosition = mouseEvent.clientX;
-                                      double diff = currentPosition - meta.getStartPosition();
-                                      resizeColumn(col, meta, diff);
-                                    });
-                          });
-
-                      column.onEachLastSubColumn(
-                          col -> {
-                            ResizeColumnMeta.get(col)
-                                .ifPresent(
-                                    meta -> {
-                                      double currentPosition = mouseEvent.clientX;
-                                      double diff = currentPosition - meta.getStartPosition();
-                                      resizeColumn(col, meta, diff);
-                                    });
-                          });
-
-                      ColumnConfig<T> dataColumn = column.getLastGrandSiblingColumn();
-                      ResizeColumnMeta.get(dataColumn)
-                          .ifPresent(
-                              meta -> {
-                                double currentPosition = mouseEvent.clientX;
-                                double diff = currentPosition - meta.getStartPosition();
-
-                                dataTable.fireTableEvent(ColumnResizingEvent.of(column, diff));
-                              });
+                      scheduleResize(column, mouseEvent.clientX);
                     };
 
                 resizeElement.addEventListener(
@@ -156,6 +151,9 @@ public class ResizeColumnsPlugin<T>
                                                             .getBoundingClientRect()
                                                             .width)
                                                     .setStartPosition(mouseEvent.clientX)));
+                        if (config.isShowResizeGuide()) {
+                          showResizeGuide(mouseEvent.clientX);
+                        }
                         DominoDom.document.body.addEventListener(
                             EventType.mousemove.getName(), resizeListener);
                       }
@@ -165,10 +163,12 @@ public class ResizeColumnsPlugin<T>
                       evt.stopPropagation();
                       if (column.equals(this.resizingColumn) && resizing) {
                         this.resizing = false;
+                        MouseEvent mouseEvent = Js.uncheckedCast(evt);
+                        hideResizeGuide();
+                        resizeColumns(column, mouseEvent.clientX);
                         ResizeColumnMeta.get(column)
                             .ifPresent(
                                 meta -> {
-                                  MouseEvent mouseEvent = Js.uncheckedCast(evt);
                                   double currentPosition = mouseEvent.clientX;
                                   double diff = currentPosition - meta.getStartPosition();
 
@@ -198,51 +198,124 @@ public class ResizeColumnsPlugin<T>
   }
 
   /**
-   * Resizes the specified column with the given metadata and difference value.
+   * Records the pointer position and schedules applying it in the next animation frame, the
+   * positions received before the frame runs are dropped except for the last one.
+   *
+   * @param column The ColumnConfig being resized.
+   * @param position The pointer position.
+   */
+  private void scheduleResize(ColumnConfig<T> column, double position) {
+    this.resizePosition = position;
+    if (resizeFrameScheduled) {
+      return;
+    }
+    resizeFrameScheduled = true;
+    DomGlobal.requestAnimationFrame(
+        timestamp -> {
+          resizeFrameScheduled = false;
+          if (!resizing || !column.equals(resizingColumn)) {
+            return;
+          }
+          if (config.isShowResizeGuide()) {
+            moveResizeGuide(resizePosition);
+          } else {
+            resizeColumns(column, resizePosition);
+          }
+          ResizeColumnMeta.get(column.getLastGrandSiblingColumn())
+              .ifPresent(
+                  meta -> {
+                    double diff = resizePosition - meta.getStartPosition();
+                    datatable.fireTableEvent(ColumnResizingEvent.of(column, diff));
+                  });
+        });
+  }
+
+  /**
+   * Resizes the column, its parent columns and its last sub columns to the pointer position, then
+   * flushes the table dynamic style sheet once.
+   *
+   * @param column The ColumnConfig being resized.
+   * @param position The pointer position.
+   */
+  private void resizeColumns(ColumnConfig<T> column, double position) {
+    column.applyAndOnParents(
+        col ->
+            ResizeColumnMeta.get(col)
+                .ifPresent(meta -> resizeColumn(col, meta, position - meta.getStartPosition())));
+    column.onEachLastSubColumn(
+        col ->
+            ResizeColumnMeta.get(col)
+                .ifPresent(meta -> resizeColumn(col, meta, position - meta.getStartPosition())));
+    datatable.getDynamicStyleSheet().flush();
+  }
+
+  /**
+   * Resizes the specified column with the given metadata and difference value, the width is written
+   * to the column css rule and takes effect when the dynamic style sheet is flushed.
    *
    * @param col The ColumnConfig to resize.
    * @param meta The ResizeColumnMeta containing column resize metadata.
    * @param diff The difference in width to apply to the column.
    */
   private void resizeColumn(ColumnConfig<T> col, ResizeColumnMeta meta, double diff) {
-    DomGlobal.requestAnimationFrame(
-        timestamp -> {
-          double widthValue = meta.getInitialWidth() + diff;
-          if (widthValue >= 20) {
-            String width = px.of(widthValue);
+    double widthValue = meta.getInitialWidth() + diff;
+    if (widthValue >= 20) {
+      String width = px.of(widthValue);
 
-            col.setWidth(width);
+      col.setWidth(width);
 
-            String minWidth = meta.suppliedMinWidthOrOriginal(width);
+      String minWidth = meta.suppliedMinWidthOrOriginal(width);
 
-            if (config.isClipContent()) {
-              String maxWidth = meta.suppliedMaxWidthOrOriginal(width);
-              col.maxWidth(maxWidth);
-              ColumnCssRuleMeta.get(col)
-                  .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
-                  .ifPresent(
-                      columnCssRule ->
-                          columnCssRule.getCssRule().setProperty("max-width", maxWidth));
-            }
+      if (config.isClipContent()) {
+        String maxWidth = meta.suppliedMaxWidthOrOriginal(width);
+        col.maxWidth(maxWidth);
+        ColumnCssRuleMeta.get(col)
+            .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
+            .ifPresent(
+                columnCssRule -> columnCssRule.getCssRule().setProperty("max-width", maxWidth));
+      }
 
-            ColumnCssRuleMeta.get(col)
-                .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
-                .ifPresent(
-                    columnCssRule -> {
-                      DominoCSSRule style = columnCssRule.getCssRule();
-                      style.setProperty("min-width", minWidth);
-                      style.setProperty("width", width);
-                    });
+      ColumnCssRuleMeta.get(col)
+          .flatMap(cssMeta -> cssMeta.getColumnCssRule(ColumnCssRuleMeta.DEFAULT_RULE))
+          .ifPresent(
+              columnCssRule -> {
+                DominoCSSRule style = columnCssRule.getCssRule();
+                style.setProperty("min-width", minWidth);
+                style.setProperty("width", width);
+              });
 
-            ColumnHeaderMeta.get(col)
-                .ifPresent(
-                    headersMeta ->
-                        headersMeta
-                            .getExtraHeadElements()
-                            .forEach(header -> header.setWidth(width)));
-            datatable.getDynamicStyleSheet().flush();
-          }
-        });
+      ColumnHeaderMeta.get(col)
+          .ifPresent(
+              headersMeta ->
+                  headersMeta.getExtraHeadElements().forEach(header -> header.setWidth(width)));
+    }
+  }
+
+  /**
+   * Shows the resize guide line over the table at the pointer position.
+   *
+   * @param position The pointer position.
+   */
+  private void showResizeGuide(double position) {
+    if (isNull(resizeGuide)) {
+      resizeGuide = elements.div().addCss(dui_column_resize_guide);
+    }
+    DOMRect tableRect = datatable.element().getBoundingClientRect();
+    resizeGuide
+        .setCssProperty("top", px.of(tableRect.top))
+        .setCssProperty("height", px.of(tableRect.height));
+    moveResizeGuide(position);
+    datatable.appendChild(resizeGuide);
+  }
+
+  private void moveResizeGuide(double position) {
+    resizeGuide.setCssProperty("left", px.of(position));
+  }
+
+  private void hideResizeGuide() {
+    if (config.isShowResizeGuide() && nonNull(resizeGuide)) {
+      resizeGuide.remove();
+    }
   }
 
   /**
@@ -16,6 +16,7 @@
 
 package org.dominokit.domino.ui.datatable.plugins.grouping;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
@@ -28,8 +29,13 @@ import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableConfig;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
+import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.datatable.store.HasRecordGroups;
+import org.dominokit.domino.ui.datatable.store.RecordGroup;
+import org.dominokit.domino.ui.elements.TableRowElement;
 import org.dominokit.domino.ui.icons.ToggleIcon;
 import org.dominokit.domino.ui.icons.ToggleMdiIcon;
 import org.dominokit.domino.ui.icons.lib.Icons;
@@ -61,11 +67,19 @@ import org.dominokit.domino.ui.utils.ComponentMeta;
  * dataTable.addPlugin(groupingPlugin);
  * </pre>
  *
+ * <p>When the data store groups the records itself, see {@link HasRecordGroups} and {@code
+ * LocalListDataStore#setGrouping}, the plugin only renders the headers of the store groups. The
+ * store emits the records ordered by group and omits the records of the collapsed groups, so a
+ * collapsed group renders only its header and its rows are rendered when it is expanded. In that
+ * mode the group supplier is not used.
+ *
  * @param <T> The data type of the DataTable.
  */
 public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowAppender<T> {
 
   private Map<String, DataGroup<T>> dataGroups = new HashMap<>();
+  private final Map<String, GroupHeader> groupHeaders = new HashMap<>();
+  private DataTable<T> dataTable;
   private final GroupSupplier<T> groupSupplier;
   private CellRenderer<T> groupRenderer;
   private Supplier<ToggleIcon<?, ?>> groupExpandedCollapseIconSupplier =
@@ -89,6 +103,7 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
    */
   @Override
   public void init(DataTable<T> dataTable) {
+    this.dataTable = dataTable;
     dataTable.getTableConfig().setRowAppender(this);
   }
 
@@ -112,6 +127,10 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
    */
   @Override
   public void appendRow(DataTable<T> dataTable, TableRow<T> tableRow) {
+    if (getStoreGroups().isPresent()) {
+      dataTable.bodyElement().appendChild(tableRow.element());
+      return;
+    }
     String groupId = groupSupplier.getRecordGroupId(tableRow);
     if (!dataGroups.containsKey(groupId)) {
       HTMLTableCellElement cellElement =
@@ -151,6 +170,11 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
 
   /** Expands all groups in the DataTable. */
   public void expandAll() {
+    Optional<HasRecordGroups<T>> storeGroups = getStoreGroups();
+    if (storeGroups.isPresent()) {
+      storeGroups.get().expandAllGroups();
+      return;
+    }
     for (DataGroup<T> dataGroup : dataGroups.values()) {
       if (!dataGroup.expanded) {
         dataGroup.toggleGroup();
@@ -161,6 +185,11 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
 
   /** Collapses all groups in the DataTable. */
   public void collapseAll() {
+    Optional<HasRecordGroups<T>> storeGroups = getStoreGroups();
+    if (storeGroups.isPresent()) {
+      storeGroups.get().collapseAllGroups();
+      return;
+    }
     for (DataGroup<T> dataGroup : dataGroups.values()) {
       if (dataGroup.expanded) {
         dataGroup.toggleGroup();
@@ -187,9 +216,80 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
   public void handleEvent(TableEvent event) {
     if (event.getType().equalsIgnoreCase(OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE)) {
       dataGroups.clear();
+    } else if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())) {
+      Optional<HasRecordGroups<T>> storeGroups = getStoreGroups();
+      if (storeGroups.isPresent()) {
+        renderGroupHeaders(storeGroups.get());
+      } else {
+        groupHeaders.values().forEach(header -> header.row.remove());
+        groupHeaders.clear();
+      }
+    }
+  }
+
+  @SuppressWarnings("unchecked")
+  private Optional<HasRecordGroups<T>> getStoreGroups() {
+    if (nonNull(dataTable) && dataTable.getDataStore() instanceof HasRecordGroups) {
+      HasRecordGroups<T> storeGroups = (HasRecordGroups<T>) dataTable.getDataStore();
+      if (storeGroups.isGrouped()) {
+        return Optional.of(storeGroups);
+      }
+    }
+    return Optional.empty();
+  }
+
+  /**
+   * Places a header row before the rows of each store group of the current page, the header of a
+   * collapsed group is placed before the header of the next group. Headers are reused across data
+   * changes and rendered again only when their group changed, the headers of the groups that are
+   * not on the current page are removed.
+   *
+   * @param storeGroups The data store groups.
+   */
+  private void renderGroupHeaders(HasRecordGroups<T> storeGroups) {
+    Map<String, TableRow<T>> firstRows = new HashMap<>();
+    for (TableRow<T> tableRow : dataTable.getRows()) {
+      if (tableRow.isRoot()) {
+        firstRows.putIfAbsent(storeGroups.getGroupKey(tableRow.getRecord()), tableRow);
+      }
+    }
+
+    List<RecordGroup<T>> groups = storeGroups.getPageGroups();
+    Set<String> staleKeys = new HashSet<>(groupHeaders.keySet());
+    Node next = null;
+    for (int i = groups.size() - 1; i >= 0; i--) {
+      RecordGroup<T> group = groups.get(i);
+      TableRow<T> firstRow = firstRows.get(group.getKey());
+      if (group.isExpanded() && isNull(firstRow)) {
+        continue;
+      }
+      staleKeys.remove(group.getKey());
+      GroupHeader header =
+          groupHeaders.computeIfAbsent(group.getKey(), key -> new GroupHeader(key, storeGroups));
+      header.render(group);
+      Node anchor = nonNull(firstRow) ? firstRow.element() : next;
+      dataTable.bodyElement().element().insertBefore(header.row.element(), anchor);
+      next = header.row.element();
+    }
+    for (String key : staleKeys) {
+      groupHeaders.remove(key).row.remove();
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this,
+        GroupingPlugin.class,
+        OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE,
+        TableDataUpdatedEvent.DATA_UPDATED);
+  }
+
   /**
    * The {@code DataGroup} class represents a group of data rows in the DataTable. It is used for
    * grouping and rendering data rows as a single group.
@@ -315,6 +415,70 @@ public class GroupingPlugin<T> implements DataTablePlugin<T>, TableConfig.RowApp
     }
   }
 
+  /** The header row of a data store group, it is kept and updated across data changes. */
+  private class GroupHeader {
+    private final String key;
+    private final HasRecordGroups<T> storeGroups;
+    private final TableRowElement row;
+    private final HTMLTableCellElement cellElement;
+    private final ToggleIcon<?, ?> icon;
+    private boolean renderedExpanded;
+    private int renderedColumns = -1;
+    private List<T> renderedRecords;
+    private Map<String, Object> renderedAggregates;
+
+    private GroupHeader(String key, HasRecordGroups<T> storeGroups) {
+      this.key = key;
+      this.storeGroups = storeGroups;
+      this.cellElement = elements.td().element();
+      this.row = elements.tr().css("data-table-group-row").appendChild(cellElement);
+      this.icon =
+          groupExpandedCollapseIconSupplier
+              .get()
+              .clickable()
+              .toggleOnClick(false)
+              .addClickListener(evt -> storeGroups.toggleGroup(key));
+    }
+
+    private void render(RecordGroup<T> group) {
+      int columns = dataTable.getTableConfig().getColumns().size();
+      if (!isChanged(group, columns)) {
+        return;
+      }
+      renderedExpanded = group.isExpanded();
+      renderedColumns = columns;
+      renderedRecords = group.getRecords();
+      renderedAggregates = group.getAggregates();
+      if (icon.isToggled() == group.isExpanded()) {
+        icon.toggle(true);
+      }
+      cellElement.setAttribute("colspan", columns + "");
+      TableRow<T> headerRow = new TableRow<>(group.getFirstRecord(), -1, dataTable);
+      elements
+          .elementOf(cellElement)
+          .clearElement()
+          .appendChild(
+              elements
+                  .div()
+                  .addCss(dui_flex, dui_gap_2, dui_items_center, dui_p_1)
+                  .appendChild(icon)
+                  .appendChild(
+                      elements
+                          .div()
+                          .addCss(dui_grow_1)
+                          .appendChild(
+                              groupRenderer.asElement(
+                                  new CellRenderer.CellInfo<>(headerRow, cellElement)))));
+    }
+
+    private boolean isChanged(RecordGroup<T> group, int columns) {
+      return renderedColumns != columns
+          || renderedExpanded != group.isExpanded()
+          || !group.getRecords().equals(renderedRecords)
+          || !group.getAggregates().equals(renderedAggregates);
+    }
+  }
+
   /**
    * A functional interface for supplying group criteria for DataTable rows.
    *
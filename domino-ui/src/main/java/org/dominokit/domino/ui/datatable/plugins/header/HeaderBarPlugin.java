@@ -24,11 +24,13 @@ import static org.dominokit.domino.ui.utils.Domino.*;
 import elemental2.dom.Element;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.DefaultColumnShowHideListener;
 import org.dominokit.domino.ui.datatable.events.SearchClearedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.model.Category;
 import org.dominokit.domino.ui.datatable.model.Filter;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
@@ -110,6 +112,16 @@ public class HeaderBarPlugin<T> implements DataTablePlugin<T> {
     dataTable.appendChild(navBar);
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, HeaderBarPlugin.class);
+  }
+
   /**
    * Adds an action element to the header bar.
    *
@@ -20,8 +20,10 @@ import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.HTMLElement;
+import java.util.Set;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 
 /**
@@ -45,4 +47,14 @@ public abstract class TopPanelPlugin<T> implements DataTablePlugin<T>, IsElement
       dataTable.element().appendChild(element());
     }
   }
+
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, TopPanelPlugin.class);
+  }
 }
@@ -18,11 +18,13 @@ package org.dominokit.domino.ui.datatable.plugins.marker;
 
 import static java.util.Objects.nonNull;
 
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.DataTableStyles;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.RowRecordUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.style.CssClass;
 
@@ -69,6 +71,19 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T>, DataTableStyles {
     setStyle(tableRow);
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Updates the marker style of the recycled row for its new record.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The recycled TableRow.
+   */
+  @Override
+  public void onRowRecycled(DataTable<T> dataTable, TableRow<T> tableRow) {
+    setStyle(tableRow);
+  }
+
   /**
    * Sets the CSS style for the specified table row based on the marker color function.
    *
@@ -80,6 +95,9 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T>, DataTableStyles {
 
     if (nonNull(color)) {
       tableRow.addCss(color);
+      tableRow.applyMeta(RowMarkerMeta.of(color));
+    } else {
+      tableRow.removeMeta(RowMarkerMeta.DOMINO_ROW_MARKER_META);
     }
   }
 
@@ -97,6 +115,17 @@ public class RowMarkerPlugin<T> implements DataTablePlugin<T>, DataTableStyles {
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, RowMarkerPlugin.class, RowRecordUpdatedEvent.RECORD_UPDATED);
+  }
+
   /**
    * {@inheritDoc}
    *
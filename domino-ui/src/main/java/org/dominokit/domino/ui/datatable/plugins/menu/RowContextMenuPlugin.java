@@ -17,9 +17,12 @@
 package org.dominokit.domino.ui.datatable.plugins.menu;
 
 import java.util.Optional;
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
+import org.dominokit.domino.ui.events.EventType;
 import org.dominokit.domino.ui.menu.Menu;
 import org.dominokit.domino.ui.menu.MenuTarget;
 
@@ -44,15 +47,39 @@ public class RowContextMenuPlugin<T> implements DataTablePlugin<T> {
   /**
    * {@inheritDoc}
    *
-   * <p>Adds the context menu to the specified row when a new row is added to the DataTable.
+   * <p>Uses the table body as the single target of the context menu, the row on which the menu is
+   * opened is resolved from the event and set as the target meta before the menu opens. The menu
+   * is not opened for events outside of the table rows.
    *
    * @param dataTable The DataTable to which this plugin is applied.
-   * @param tableRow The TableRow to which the context menu is added.
    */
   @Override
-  public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-    this.menu.addTarget(
-        MenuTarget.of(tableRow.element()).applyMeta(RowContextMenuMeta.of(tableRow)));
+  public void onBeforeAddTable(DataTable<T> dataTable) {
+    MenuTarget bodyTarget = MenuTarget.of(dataTable.bodyElement().element());
+    dataTable
+        .bodyElement()
+        .addEventListener(
+            EventType.contextmenu.getName(),
+            evt -> {
+              Optional<TableRow<T>> tableRow = dataTable.findRow(evt);
+              if (tableRow.isPresent()) {
+                bodyTarget.applyMeta(RowContextMenuMeta.of(tableRow.get()));
+              } else {
+                bodyTarget.removeMeta(RowContextMenuMeta.ROW_CONTEXT_MENU_META);
+                evt.stopImmediatePropagation();
+              }
+            });
+    this.menu.addTarget(bodyTarget);
+  }
+
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, RowContextMenuPlugin.class);
   }
 
   /**
@@ -16,7 +16,9 @@
 
 package org.dominokit.domino.ui.datatable.plugins.pagination;
 
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.pagination.AdvancedPagination;
@@ -58,6 +60,16 @@ public class AdvancedPaginationPlugin<T> implements DataTablePlugin<T> {
             dataTable.fireTableEvent(new TablePageChangeEvent(pageNumber, pagination)));
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, AdvancedPaginationPlugin.class);
+  }
+
   /**
    * Gets the AdvancedPagination instance used by this plugin.
    *
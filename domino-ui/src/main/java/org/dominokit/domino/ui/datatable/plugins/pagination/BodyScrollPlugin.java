@@ -20,8 +20,10 @@ import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.core.JsMath;
 import elemental2.dom.HTMLTableElement;
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
 
@@ -62,6 +64,16 @@ public class BodyScrollPlugin<T>
         });
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, BodyScrollPlugin.class);
+  }
+
   /**
    * Sets up the plugin configuration.
    *
@@ -16,7 +16,9 @@
 
 package org.dominokit.domino.ui.datatable.plugins.pagination;
 
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.pagination.ScrollingPagination;
@@ -68,6 +70,16 @@ public class ScrollingPaginationPlugin<T> implements DataTablePlugin<T> {
             dataTable.fireTableEvent(new TablePageChangeEvent(pageNumber, pagination)));
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, ScrollingPaginationPlugin.class);
+  }
+
   /**
    * Gets the ScrollingPagination instance used by this plugin.
    *
@@ -16,8 +16,10 @@
 
 package org.dominokit.domino.ui.datatable.plugins.row;
 
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.events.EventType;
 
@@ -44,16 +46,37 @@ public class DoubleClickPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Adds double-click event handling for newly added table rows. When a row is double-clicked, the
-   * double-click handler {@link DoubleClickHandler#onDoubleClick(TableRow)} is executed.
+   * Registers a single double-click handler on the table body, when a row is double-clicked the
+   * double-click handler {@link DoubleClickHandler#onDoubleClick(TableRow)} is executed with the
+   * double-clicked row.
    *
    * @param dataTable The DataTable to which this plugin is applied.
-   * @param tableRow The table row to which the double-click event handling is added.
+   */
+  @Override
+  public void onBeforeAddTable(DataTable<T> dataTable) {
+    dataTable.addRowEventHandler(
+        EventType.dblclick.getName(), (evt, tableRow) -> handler.onDoubleClick(tableRow));
+  }
+
+  /**
+   * Marks newly added table rows as clickable.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The newly added table row.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
     tableRow.addCss(dui_cursor_pointer);
-    tableRow.addEventListener(EventType.dblclick, evt -> handler.onDoubleClick(tableRow));
+  }
+
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, DoubleClickPlugin.class);
   }
 
   /**
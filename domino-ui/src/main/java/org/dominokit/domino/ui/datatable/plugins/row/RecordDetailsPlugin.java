@@ -16,15 +16,23 @@
 
 package org.dominokit.domino.ui.datatable.plugins.row;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_datatable_details_td;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_datatable_details_tr;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
 import elemental2.dom.*;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Supplier;
 import org.dominokit.domino.ui.IsElement;
 import org.dominokit.domino.ui.datatable.CellRenderer;
@@ -33,8 +41,10 @@ import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
 import org.dominokit.domino.ui.datatable.events.ExpandRecordEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.pagination.StateIcon;
+import org.dominokit.domino.ui.datatable.store.RecordKeyProvider;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.elements.TDElement;
 import org.dominokit.domino.ui.elements.TableRowElement;
@@ -48,6 +58,14 @@ import org.dominokit.domino.ui.utils.ComponentMeta;
  * rows to display additional details within the DataTable. It provides functionality to add
  * expand/collapse buttons to utility columns and handle expand/collapse events.
  *
+ * <p>By default a single row can be expanded and its details are rendered again every time it is
+ * expanded. The rendered details can be cached per record key using {@link
+ * #setMaxCachedDetails(int)}, and multiple rows can be expanded at once using {@link
+ * #setMultipleExpanded(boolean)}, in which case the details of expanded rows that leave the table
+ * body are detached and attached again when their record is displayed again. Records are
+ * identified using the table {@link RecordKeyProvider} when set, or by the record itself
+ * otherwise.
+ *
  * @param <T> The type of data in the DataTable rows.
  * @see DataTablePlugin
  * @see CellRenderer
@@ -58,11 +76,16 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
   private TDElement td = td().addCss(dui_datatable_details_td).appendChild(element);
   private TableRowElement tr = tr().addCss(dui_datatable_details_tr).appendChild(td);
 
-  private final CellRenderer<T> cellRenderer;
+  private final DetailsRenderer<T> detailsRenderer;
   private Supplier<Icon<?>> expandIcon;
   private Supplier<Icon<?>> collapseIcon;
   private DataTable<T> dataTable;
   private DetailsButtonElement<T> expandedRow;
+  private final DetailsPanel sharedPanel = new DetailsPanel(tr, td, element);
+  private final Map<Object, DetailsPanel> panels = new LinkedHashMap<>(16, 0.75f, true);
+  private final Set<Object> expandedKeys = new LinkedHashSet<>();
+  private int maxCachedDetails = 0;
+  private boolean multipleExpanded = false;
 
   /**
    * Creates a new {@code RecordDetailsPlugin} with the provided cell renderer.
@@ -86,7 +109,38 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
    */
   public RecordDetailsPlugin(
       CellRenderer<T> cellRenderer, Supplier<Icon<?>> expandIcon, Supplier<Icon<?>> collapseIcon) {
-    this.cellRenderer = cellRenderer;
+    this(
+        (cellInfo, contentConsumer) -> contentConsumer.accept(cellRenderer.asElement(cellInfo)),
+        expandIcon,
+        collapseIcon);
+  }
+
+  /**
+   * Creates a new {@code RecordDetailsPlugin} with the provided details renderer, the renderer may
+   * provide the details content asynchronously.
+   *
+   * @param detailsRenderer The renderer used to render details content.
+   */
+  public RecordDetailsPlugin(DetailsRenderer<T> detailsRenderer) {
+    this(
+        detailsRenderer,
+        () -> Icons.fullscreen().clickable(),
+        () -> Icons.fullscreen_exit().clickable());
+  }
+
+  /**
+   * Creates a new {@code RecordDetailsPlugin} with the provided details renderer and custom expand
+   * and collapse icons, the renderer may provide the details content asynchronously.
+   *
+   * @param detailsRenderer The renderer used to render details content.
+   * @param expandIcon A supplier of the expand icon.
+   * @param collapseIcon A supplier of the collapse icon.
+   */
+  public RecordDetailsPlugin(
+      DetailsRenderer<T> detailsRenderer,
+      Supplier<Icon<?>> expandIcon,
+      Supplier<Icon<?>> collapseIcon) {
+    this.detailsRenderer = detailsRenderer;
     this.expandIcon = expandIcon;
     this.collapseIcon = collapseIcon;
   }
@@ -120,9 +174,8 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     cell.getTableRow()
         .addCollapseListener(
             () -> {
-              if (nonNull(expandedRow)
-                  && cell.getTableRow().equals(expandedRow.getCellInfo().getTableRow())) {
-                expandedRow.collapse();
+              if (expandedKeys.contains(keyOf(cell.getRecord()))) {
+                detailsButtonElement.collapse();
               }
             });
     applyStyles(cell);
@@ -154,6 +207,65 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     this.dataTable = dataTable;
   }
 
+  /**
+   * Attaches the retained details of the row record when the record is expanded.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The newly added row.
+   */
+  @Override
+  public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
+    syncRowDetails(tableRow);
+  }
+
+  /**
+   * Updates the details of a recycled row to match its new record.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The recycled row.
+   */
+  @Override
+  public void onRowRecycled(DataTable<T> dataTable, TableRow<T> tableRow) {
+    syncRowDetails(tableRow);
+  }
+
+  /**
+   * Collapses the expanded record when its details are not retained and the details row was
+   * dropped while the rows were redrawn.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   */
+  @Override
+  public void onAllRowsAdded(DataTable<T> dataTable) {
+    if (!isRetainingDetails() && nonNull(expandedRow) && !sharedPanel.tr.isAttached()) {
+      new ArrayList<>(expandedKeys).forEach(this::collapseKey);
+    }
+  }
+
+  /**
+   * Detaches the details of a removed row, the details are retained when rows are cached or
+   * multiple rows can be expanded.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The removed row.
+   */
+  @Override
+  public void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow) {
+    DetailsButtonElement.get(tableRow)
+        .ifPresent(
+            button -> {
+              Object key = keyOf(tableRow.getRecord());
+              if (!expandedKeys.contains(key)) {
+                return;
+              }
+              if (isRetainingDetails()) {
+                panelOf(key).ifPresent(panel -> panel.tr.remove());
+              } else {
+                button.collapse();
+              }
+            });
+  }
+
   /**
    * Handles table events, specifically handling the expand/collapse events.
    *
@@ -166,19 +278,29 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, RecordDetailsPlugin.class, ExpandRecordEvent.EXPAND_RECORD);
+  }
+
   /**
    * Expands a row when receiving an expand record event.
    *
    * @param event The expand record event.
    */
   private void expandRow(ExpandRecordEvent<T> event) {
-    Optional<DetailsButtonElement<T>> detailsButtonElement =
-        DetailsButtonElement.get(event.getTableRow());
-    setExpanded(detailsButtonElement.get());
+    DetailsButtonElement.get(event.getTableRow()).ifPresent(DetailsButtonElement::expand);
   }
 
   /**
-   * Gets the details element.
+   * Gets the details element, this is the element used to render the details when they are neither
+   * cached nor multiple rows can be expanded.
    *
    * @return The details element.
    */
@@ -187,7 +309,8 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Gets the TD element.
+   * Gets the TD element, this is the element used to render the details when they are neither
+   * cached nor multiple rows can be expanded.
    *
    * @return The TD element.
    */
@@ -196,7 +319,8 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Gets the TR element.
+   * Gets the TR element, this is the element used to render the details when they are neither
+   * cached nor multiple rows can be expanded.
    *
    * @return The TR element.
    */
@@ -218,27 +342,276 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
    */
   public void setupColumn(ColumnConfig<T> column) {}
 
-  /** Clears the current details content. */
-  private void clear() {
-    tr.remove();
-    element.clearElement();
+  /**
+   * Sets the maximum number of records whose rendered details are cached, expanding a record with
+   * cached details attaches them without calling the details renderer. The least recently used
+   * details are evicted first, details of expanded rows are never evicted.
+   *
+   * @param maxCachedDetails the maximum number of cached details, 0 or less to disable caching
+   * @return same plugin instance
+   */
+  public RecordDetailsPlugin<T> setMaxCachedDetails(int maxCachedDetails) {
+    this.maxCachedDetails = maxCachedDetails;
+    evictOverflow();
+    return this;
+  }
+
+  /** @return the maximum number of cached details, 0 or less when caching is disabled */
+  public int getMaxCachedDetails() {
+    return maxCachedDetails;
+  }
+
+  /**
+   * Sets whether multiple rows can be expanded at once, when disabled expanding a row collapses the
+   * expanded one.
+   *
+   * @param multipleExpanded true to allow multiple expanded rows
+   * @return same plugin instance
+   */
+  public RecordDetailsPlugin<T> setMultipleExpanded(boolean multipleExpanded) {
+    this.multipleExpanded = multipleExpanded;
+    return this;
+  }
+
+  /** @return true if multiple rows can be expanded at once */
+  public boolean isMultipleExpanded() {
+    return multipleExpanded;
+  }
+
+  /**
+   * Removes the cached details of the specified record, the details of an expanded record are
+   * rendered again.
+   *
+   * @param record the record whose details should be rendered again
+   * @return same plugin instance
+   */
+  public RecordDetailsPlugin<T> invalidateDetails(T record) {
+    invalidateKey(keyOf(record));
+    return this;
+  }
+
+  /**
+   * Removes all the cached details, the details of expanded records are rendered again.
+   *
+   * @return same plugin instance
+   */
+  public RecordDetailsPlugin<T> invalidateAllDetails() {
+    if (isRetainingDetails()) {
+      new ArrayList<>(panels.keySet()).forEach(this::invalidateKey);
+    } else if (nonNull(expandedRow)) {
+      invalidateKey(keyOf(expandedRow.getCellInfo().getRecord()));
+    }
+    return this;
+  }
+
+  /** @return the number of records that have rendered details retained by this plugin */
+  public int getCachedDetailsCount() {
+    return panels.size();
+  }
+
+  private void invalidateKey(Object key) {
+    DetailsPanel panel;
+    if (isRetainingDetails()) {
+      panel = panels.remove(key);
+    } else {
+      boolean shared =
+          nonNull(expandedRow) && key.equals(keyOf(expandedRow.getCellInfo().getRecord()));
+      panel = shared ? sharedPanel : null;
+    }
+    if (isNull(panel)) {
+      return;
+    }
+    boolean attached = panel.tr.isAttached();
+    panel.reset();
+    if (expandedKeys.contains(key) && attached) {
+      findButton(key).ifPresent(this::showDetails);
+    }
   }
 
   /**
-   * Sets the specified element as expanded and displays the details content.
+   * Expands the details of the row of the specified button.
    *
-   * @param expandElement The element to expand.
+   * @param button The details button of the row.
    */
-  private void setExpanded(DetailsButtonElement<T> expandElement) {
-    if (nonNull(this.expandedRow)) {
-      this.expandedRow.collapse();
+  private void expandDetails(DetailsButtonElement<T> button) {
+    Object key = keyOf(button.getCellInfo().getRecord());
+    if (!multipleExpanded) {
+      for (Object expandedKey : new ArrayList<>(expandedKeys)) {
+        if (!expandedKey.equals(key)) {
+          collapseKey(expandedKey);
+        }
+      }
     }
-    this.expandedRow = expandElement;
-    td.setAttribute("colspan", dataTable.getTableConfig().getColumns().size() + "");
-    element.appendChild(cellRenderer.asElement(expandElement.getCellInfo()));
-    dataTable
-        .bodyElement()
-        .insertBefore(tr, expandElement.getCellInfo().getTableRow().element().nextSibling);
+    expandedKeys.add(key);
+    showDetails(button);
+    button.setExpandedState(true);
+  }
+
+  /**
+   * Collapses the details of the row of the specified button.
+   *
+   * @param button The details button of the row.
+   */
+  private void collapseDetails(DetailsButtonElement<T> button) {
+    collapseKey(keyOf(button.getCellInfo().getRecord()));
+    button.setExpandedState(false);
+  }
+
+  private void collapseKey(Object key) {
+    expandedKeys.remove(key);
+    if (isRetainingDetails()) {
+      panelOf(key).ifPresent(panel -> panel.tr.remove());
+      evictOverflow();
+    } else {
+      sharedPanel.reset();
+      if (nonNull(expandedRow)) {
+        expandedRow.setExpandedState(false);
+        expandedRow = null;
+      }
+    }
+    findButton(key).ifPresent(button -> button.setExpandedState(false));
+  }
+
+  /**
+   * Attaches the details of the row of the specified button after the row, the details are
+   * rendered only if they are not already rendered for the row record.
+   *
+   * @param button The details button of the row.
+   */
+  private void showDetails(DetailsButtonElement<T> button) {
+    CellRenderer.CellInfo<T> cellInfo = button.getCellInfo();
+    DetailsPanel panel;
+    if (isRetainingDetails()) {
+      panel = panels.computeIfAbsent(keyOf(cellInfo.getRecord()), key -> new DetailsPanel());
+    } else {
+      if (nonNull(expandedRow) && expandedRow != button) {
+        Object expandedKey = keyOf(expandedRow.getCellInfo().getRecord());
+        if (!expandedKey.equals(keyOf(cellInfo.getRecord()))) {
+          expandedKeys.remove(expandedKey);
+        }
+        sharedPanel.reset();
+      }
+      expandedRow = button;
+      panel = sharedPanel;
+    }
+    panel.td.setAttribute("colspan", dataTable.getTableConfig().getColumns().size() + "");
+    if (!panel.rendered) {
+      panel.render(cellInfo);
+    }
+    dataTable.bodyElement().insertBefore(panel.tr, cellInfo.getTableRow().element().nextSibling);
+    evictOverflow();
+  }
+
+  private void syncRowDetails(TableRow<T> tableRow) {
+    DetailsButtonElement.get(tableRow)
+        .ifPresent(
+            button -> {
+              Object key = keyOf(tableRow.getRecord());
+              if (isRetainingDetails()) {
+                boolean expanded = expandedKeys.contains(key);
+                if (expanded) {
+                  showDetails(button);
+                }
+                button.setExpandedState(expanded);
+              } else if (button == expandedRow && !expandedKeys.contains(key)) {
+                new ArrayList<>(expandedKeys).forEach(this::collapseKey);
+              }
+            });
+  }
+
+  private Optional<DetailsButtonElement<T>> findButton(Object key) {
+    return dataTable.findRowByKey(key).flatMap(DetailsButtonElement::get);
+  }
+
+  private Optional<DetailsPanel> panelOf(Object key) {
+    return Optional.ofNullable(panels.get(key));
+  }
+
+  private boolean isRetainingDetails() {
+    return maxCachedDetails > 0 || multipleExpanded;
+  }
+
+  /**
+   * Evicts the least recently used details until the cache is within the configured bound, the
+   * details of expanded records are kept.
+   */
+  private void evictOverflow() {
+    int maxPanels = maxCachedDetails > 0 ? maxCachedDetails : 0;
+    Iterator<Map.Entry<Object, DetailsPanel>> iterator = panels.entrySet().iterator();
+    while (iterator.hasNext() && panels.size() > maxPanels) {
+      Map.Entry<Object, DetailsPanel> entry = iterator.next();
+      if (!expandedKeys.contains(entry.getKey())) {
+        entry.getValue().reset();
+        iterator.remove();
+      }
+    }
+  }
+
+  private Object keyOf(T record) {
+    return dataTable.getRecordKey(record);
+  }
+
+  /** The details row of a record, its content is kept until it is reset. */
+  private final class DetailsPanel {
+    private final TableRowElement tr;
+    private final TDElement td;
+    private final DivElement element;
+    private boolean rendered = false;
+    private int renderVersion = 0;
+
+    private DetailsPanel() {
+      this.element = div();
+      this.td = td().addCss(dui_datatable_details_td).appendChild(element);
+      this.tr = tr().addCss(dui_datatable_details_tr).appendChild(td);
+    }
+
+    private DetailsPanel(TableRowElement tr, TDElement td, DivElement element) {
+      this.tr = tr;
+      this.td = td;
+      this.element = element;
+    }
+
+    /**
+     * Renders the details of the cell record, content provided for an outdated render is ignored.
+     *
+     * @param cellInfo The cell information of the expanded row.
+     */
+    private void render(CellRenderer.CellInfo<T> cellInfo) {
+      int version = ++renderVersion;
+      rendered = true;
+      element.clearElement();
+      detailsRenderer.render(
+          cellInfo,
+          content -> {
+            if (version == renderVersion && nonNull(content)) {
+              element.appendChild(content);
+            }
+          });
+    }
+
+    private void reset() {
+      renderVersion++;
+      rendered = false;
+      tr.remove();
+      element.clearElement();
+    }
+  }
+
+  /**
+   * A renderer for the details of a record that may provide the content asynchronously, the details
+   * row is attached immediately and the content is appended when it is provided.
+   *
+   * @param <T> The type of data in the DataTable rows.
+   */
+  @FunctionalInterface
+  public interface DetailsRenderer<T> {
+    /**
+     * Renders the details of the record of the cell and passes the content to the consumer.
+     *
+     * @param cellInfo The cell information of the expanded row.
+     * @param contentConsumer A consumer that receives the rendered details content.
+     */
+    void render(CellRenderer.CellInfo<T> cellInfo, Consumer<Node> contentConsumer);
   }
 
   /**
@@ -302,14 +675,21 @@ public class RecordDetailsPlugin<T> implements DataTablePlugin<T> {
 
     /** Expands the associated row and sets the icon to the expanded state. */
     public void expand() {
-      recordDetailsPlugin.setExpanded(this);
-      this.stateIcon.setState("expanded");
+      recordDetailsPlugin.expandDetails(this);
     }
 
     /** Collapses the associated row and sets the icon to the collapsed state. */
     public void collapse() {
-      recordDetailsPlugin.clear();
-      this.stateIcon.setState("collapsed");
+      recordDetailsPlugin.collapseDetails(this);
+    }
+
+    /**
+     * Sets the icon state without expanding or collapsing the row details.
+     *
+     * @param expanded true to show the expanded state, false to show the collapsed state
+     */
+    private void setExpandedState(boolean expanded) {
+      this.stateIcon.setState(expanded ? "expanded" : "collapsed");
     }
 
     /**
@@ -16,8 +16,10 @@
 
 package org.dominokit.domino.ui.datatable.plugins.row;
 
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.TableRow;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.events.EventType;
 
@@ -43,16 +45,36 @@ public class RowClickPlugin<T> implements DataTablePlugin<T> {
   }
 
   /**
-   * Adds click event handling for newly added table rows. When a row is clicked, the click handler
-   * {@link ClickHandler#onClick(TableRow)} is executed.
+   * Registers a single click handler on the table body, when a row is clicked the click handler
+   * {@link ClickHandler#onClick(TableRow)} is executed with the clicked row.
    *
    * @param dataTable The DataTable to which this plugin is applied.
-   * @param tableRow The table row to which the click event handling is added.
+   */
+  @Override
+  public void onBeforeAddTable(DataTable<T> dataTable) {
+    dataTable.addRowEventHandler(
+        EventType.click.getName(), (evt, tableRow) -> handler.onClick(tableRow));
+  }
+
+  /**
+   * Marks newly added table rows as clickable.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The newly added table row.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
     tableRow.addCss(dui_cursor_pointer);
-    tableRow.addEventListener(EventType.click.getName(), evt -> handler.onClick(tableRow));
+  }
+
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, RowClickPlugin.class);
   }
 
   /**
@@ -17,7 +17,6 @@
 package org.dominokit.domino.ui.datatable.plugins.selection;
 
 import static java.util.Collections.singletonList;
-import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.DataTableStyles.dui_datatable_row_selected;
 import static org.dominokit.domino.ui.forms.FormsStyles.dui_form_select_check_box;
@@ -25,16 +24,16 @@ import static org.dominokit.domino.ui.forms.FormsStyles.dui_form_select_check_bo
 import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.MouseEvent;
-import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.Supplier;
 import jsinterop.base.Js;
 import org.dominokit.domino.ui.datatable.*;
-import org.dominokit.domino.ui.datatable.events.OnBeforeDataChangeEvent;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.forms.CheckBox;
 import org.dominokit.domino.ui.icons.Icon;
@@ -56,9 +55,9 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   private TableRow<T> lastSelected;
   private CheckBoxCreator<T> checkBoxCreator = tableRow -> CheckBox.create();
   private DataTable<T> datatable;
-  private List<T> oldSelection = new ArrayList<>();
   private boolean retainSelectionOnDataChange = false;
   private CheckBox headerCheckBox;
+  private int selectableCount = -1;
 
   /** Creates a new `SelectionPlugin` with default settings. */
   public SelectionPlugin() {}
@@ -118,6 +117,7 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   @Override
   public void onAfterAddTable(DataTable<T> dataTable) {
     this.datatable = dataTable;
+    dataTable.getSelectionModel().setRetainSelection(retainSelectionOnDataChange);
   }
 
   /**
@@ -320,10 +320,7 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   }
 
   private void updateHeaderCheckBox(List<TableRow<T>> selectedRows) {
-    long selectableCount =
-        this.datatable.getRows().stream()
-            .filter(tableRow -> selectionCondition.isAllowSelection(this.datatable, tableRow))
-            .count();
+    int selectableCount = getSelectableCount();
     if (selectedRows.size() > 0 && selectedRows.size() < selectableCount) {
       headerCheckBox.indeterminate();
     } else if (selectedRows.size() == selectableCount) {
@@ -359,62 +356,119 @@ public class SelectionPlugin<T> implements DataTablePlugin<T> {
   public SelectionPlugin<T> setSelectionCondition(SelectionCondition<T> selectionCondition) {
     if (nonNull(selectionCondition)) {
       this.selectionCondition = selectionCondition;
+      this.selectableCount = -1;
     }
     return this;
   }
 
   /**
-   * Sets whether to retain row selection on data changes in the DataTable.
+   * Sets whether to retain row selection on data changes in the DataTable, this is applied to the
+   * table {@link TableSelectionModel} so selected records that are not rendered, e.g. on other
+   * pages or filtered out, stay selected and their rows are selected again once rendered.
    *
    * @param retainSelectionOnDataChange `true` to retain row selection, `false` otherwise.
    * @return This `SelectionPlugin` instance for method chaining.
    */
   public SelectionPlugin<T> setRetainSelectionOnDataChange(boolean retainSelectionOnDataChange) {
     this.retainSelectionOnDataChange = retainSelectionOnDataChange;
+    if (nonNull(datatable)) {
+      datatable.getSelectionModel().setRetainSelection(retainSelectionOnDataChange);
+    }
     return this;
   }
 
   /**
-   * Handles the addition of a row to the DataTable. If selection retention is enabled and the row
-   * was previously selected, it re-selects the row.
+   * Handles the addition of a row to the DataTable. If the record of the row is selected in the
+   * table selection model, it re-selects the row.
    *
    * @param dataTable The DataTable to which this plugin is applied.
    * @param tableRow The row to be added.
    */
   @Override
   public void onRowAdded(DataTable<T> dataTable, TableRow<T> tableRow) {
-    if (retainSelectionOnDataChange) {
-      if (nonNull(oldSelection)
-          && !oldSelection.isEmpty()
-          && oldSelection.contains(tableRow.getRecord())) {
-        if (isNull(selectionCondition)
-            || selectionCondition.isAllowSelection(dataTable, tableRow)) {
-          tableRow.select();
-        }
-      }
+    selectableCount = -1;
+    retainSelection(dataTable, tableRow);
+  }
+
+  /**
+   * Handles a recycled row rebound to a new record. If the new record is selected in the table
+   * selection model, it re-selects the row.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The recycled row.
+   */
+  @Override
+  public void onRowRecycled(DataTable<T> dataTable, TableRow<T> tableRow) {
+    selectableCount = -1;
+    retainSelection(dataTable, tableRow);
+  }
+
+  /**
+   * Resets the cached selectable rows count when a row is removed.
+   *
+   * @param dataTable The DataTable to which this plugin is applied.
+   * @param tableRow The removed row.
+   */
+  @Override
+  public void onRowRemoved(DataTable<T> dataTable, TableRow<T> tableRow) {
+    selectableCount = -1;
+  }
+
+  /**
+   * Selects a newly rendered row silently if its record is selected in the table selection model,
+   * the header check box is updated once the table data update completes.
+   */
+  private void retainSelection(DataTable<T> dataTable, TableRow<T> tableRow) {
+    if (!tableRow.isSelected()
+        && dataTable.getSelectionModel().isSelected(tableRow.getRecord())
+        && selectionCondition.isAllowSelection(dataTable, tableRow)) {
+      dataTable.withPauseSelectionListenersToggle(true, table -> tableRow.select());
     }
   }
 
   /**
-   * Handles DataTable events, specifically retaining the selection on data change events.
+   * Handles DataTable events, specifically updating the header check box on data updates.
    *
    * @param event The DataTable event.
    */
   @Override
   public void handleEvent(TableEvent event) {
-    if (retainSelectionOnDataChange) {
-      if (OnBeforeDataChangeEvent.ON_BEFORE_DATA_CHANGE.equals(event.getType())) {
-        this.oldSelection = this.datatable.getSelectedRecords();
-      }
-    }
-
     if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())) {
+      selectableCount = -1;
       if (this.datatable.getTableConfig().isMultiSelect()) {
-        updateHeaderCheckBox(this.datatable.getSelectedItems());
+        updateHeaderCheckBox(this.datatable.getSelectionModel().getSelectedRows());
       }
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, SelectionPlugin.class, TableDataUpdatedEvent.DATA_UPDATED);
+  }
+
+  /**
+   * Counts the rows that can be selected, the count is cached until the table rows change so that
+   * it is not recounted on every selection change.
+   *
+   * @return The number of selectable rows.
+   */
+  private int getSelectableCount() {
+    if (selectableCount < 0) {
+      selectableCount =
+          (int)
+              this.datatable.getRows().stream()
+                  .filter(tableRow -> selectionCondition.isAllowSelection(this.datatable, tableRow))
+                  .count();
+    }
+    return selectableCount;
+  }
+
   /**
    * Sets a custom CheckBox creator for multi-selection cells.
    *
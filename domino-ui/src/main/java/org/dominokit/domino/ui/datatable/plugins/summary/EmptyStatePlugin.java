@@ -16,8 +16,10 @@
 
 package org.dominokit.domino.ui.datatable.plugins.summary;
 
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.elements.TDElement;
 import org.dominokit.domino.ui.elements.TFootElement;
@@ -84,6 +86,16 @@ public class EmptyStatePlugin<T> implements DataTablePlugin<T> {
         .appendChild(stateCell.addCss(dui_table_cell).appendChild(emptyState));
   }
 
+  /**
+   * This plugin does not consume table events, so the table does not deliver any event to it.
+   *
+   * @return an empty set
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(this, EmptyStatePlugin.class);
+  }
+
   /**
    * Invoked when the footer is added to the DataTable.
    *
@@ -49,6 +49,7 @@ public interface SummaryCellRenderer<T, S> {
   class SummaryCellInfo<T, S> {
     private final SummaryRow<T, S> summaryRow;
     private final HTMLTableCellElement element;
+    private Object aggregate;
 
     /**
      * Creates a new instance of {@code SummaryCellInfo} with the provided summary row and HTML
@@ -88,5 +89,19 @@ public interface SummaryCellRenderer<T, S> {
     public S getRecord() {
       return summaryRow.getRecord();
     }
+
+    /**
+     * Gets the aggregate value of the cell column when the cell belongs to the aggregates row.
+     *
+     * @return The aggregate value, or {@code null} if the column is not aggregated.
+     * @see SummaryRow#isAggregatesRow()
+     */
+    public Object getAggregate() {
+      return aggregate;
+    }
+
+    void setAggregate(Object aggregate) {
+      this.aggregate = aggregate;
+    }
   }
 }
@@ -36,6 +36,7 @@ public class SummaryMeta<T, S> implements ComponentMeta {
 
   private SummaryCellRenderer<T, S> cellRenderer;
   private boolean skip = false;
+  private SummaryCellRenderer<T, S> aggregateCellRenderer;
 
   /**
    * Creates a new instance of {@code SummaryMeta} with the provided summary cell renderer.
@@ -114,6 +115,28 @@ public class SummaryMeta<T, S> implements ComponentMeta {
     return this;
   }
 
+  /**
+   * Retrieves the renderer of the column cell in the aggregates summary row.
+   *
+   * @return The aggregate cell renderer, or {@code null} to display the aggregate value as text.
+   */
+  public SummaryCellRenderer<T, S> getAggregateCellRenderer() {
+    return aggregateCellRenderer;
+  }
+
+  /**
+   * Sets the renderer of the column cell in the aggregates summary row, the renderer reads the
+   * value using {@link SummaryCellRenderer.SummaryCellInfo#getAggregate()}.
+   *
+   * @param aggregateCellRenderer The aggregate cell renderer.
+   * @return This {@code SummaryMeta} instance for method chaining.
+   */
+  public SummaryMeta<T, S> setAggregateCellRenderer(
+      SummaryCellRenderer<T, S> aggregateCellRenderer) {
+    this.aggregateCellRenderer = aggregateCellRenderer;
+    return this;
+  }
+
   /**
    * {@inheritDoc}
    *
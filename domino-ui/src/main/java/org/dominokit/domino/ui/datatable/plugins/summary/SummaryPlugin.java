@@ -17,15 +17,20 @@
 package org.dominokit.domino.ui.datatable.plugins.summary;
 
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import org.dominokit.domino.ui.datatable.DataTable;
 import org.dominokit.domino.ui.datatable.events.TableDataUpdatedEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.DataTablePlugin;
 import org.dominokit.domino.ui.datatable.plugins.HasPluginConfig;
+import org.dominokit.domino.ui.datatable.store.HasAggregates;
 import org.dominokit.domino.ui.elements.TFootElement;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 
@@ -42,6 +47,10 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
  * summaryPlugin.setSummaryRecords(summaryDataList);
  * </code></pre>
  *
+ * <p>The plugin can also display the column aggregates maintained incrementally by the data store,
+ * see {@link SummaryPluginConfig#setShowAggregates(boolean)} and {@link
+ * org.dominokit.domino.ui.datatable.ColumnConfig#setAggregation}.
+ *
  * @param <T> The type of data in the DataTable.
  * @param <S> The type of data in the summary row.
  */
@@ -49,18 +58,23 @@ public class SummaryPlugin<T, S>
     implements DataTablePlugin<T>, HasPluginConfig<T, SummaryPlugin<T, S>, SummaryPluginConfig> {
 
   private List<SummaryRow<T, S>> summaryRows = new ArrayList<>();
+  private SummaryRow<T, S> aggregatesRow;
   private DataTable<T> dataTable;
   private TFootElement footer;
   private SummaryPluginConfig config = SummaryPluginConfig.of();
 
   /**
-   * Initializes the SummaryPlugin with the DataTable.
+   * Initializes the SummaryPlugin with the DataTable, the aggregates row listens to the aggregates
+   * changes of the data store when it maintains aggregates.
    *
    * @param dataTable The DataTable to which this plugin is added.
    */
   @Override
   public void init(DataTable<T> dataTable) {
     this.dataTable = dataTable;
+    if (dataTable.getDataStore() instanceof HasAggregates) {
+      ((HasAggregates) dataTable.getDataStore()).addAggregatesListener(this::onAggregatesChanged);
+    }
   }
 
   /**
@@ -92,6 +106,9 @@ public class SummaryPlugin<T, S>
       footer.appendChild(summaryRow);
       summaryRows.add(summaryRow);
     }
+    if (nonNull(aggregatesRow)) {
+      footer.appendChild(aggregatesRow);
+    }
     return this;
   }
 
@@ -105,10 +122,59 @@ public class SummaryPlugin<T, S>
     if (TableDataUpdatedEvent.DATA_UPDATED.equals(event.getType())) {
       if (config.isRemoveOnEmptyData() && ((TableDataUpdatedEvent<T>) event).getData().isEmpty()) {
         removeSummaryRecords();
+        removeAggregatesRow();
+      } else if (config.isShowAggregates() && isNull(aggregatesRow)) {
+        updateAggregatesRow();
       }
     }
   }
 
+  /**
+   * Updates the shown aggregates row when the data store aggregates change, including the changes
+   * that do not update the table rows.
+   */
+  private void onAggregatesChanged() {
+    if (config.isShowAggregates() && nonNull(aggregatesRow)) {
+      updateAggregatesRow();
+    }
+  }
+
+  /**
+   * Updates the aggregates row with the current aggregates of the data store, the row is added to
+   * the footer on the first update and only the cells whose aggregate changed are rendered again.
+   */
+  private void updateAggregatesRow() {
+    if (isNull(footer) || !(dataTable.getDataStore() instanceof HasAggregates)) {
+      return;
+    }
+    Map<String, Object> aggregates = ((HasAggregates) dataTable.getDataStore()).getAggregates();
+    if (isNull(aggregatesRow)) {
+      aggregatesRow = new SummaryRow<>(null, summaryRows.size(), this.dataTable);
+      aggregatesRow.setAggregatesRow(true);
+      aggregatesRow.render();
+      footer.appendChild(aggregatesRow);
+    }
+    aggregatesRow.updateAggregates(aggregates);
+  }
+
+  private void removeAggregatesRow() {
+    if (nonNull(aggregatesRow)) {
+      aggregatesRow.remove();
+      aggregatesRow = null;
+    }
+  }
+
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, SummaryPlugin.class, TableDataUpdatedEvent.DATA_UPDATED);
+  }
+
   /**
    * Sets the configuration for the SummaryPlugin.
    *
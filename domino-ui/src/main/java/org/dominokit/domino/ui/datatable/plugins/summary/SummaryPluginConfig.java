@@ -22,6 +22,7 @@ import org.dominokit.domino.ui.utils.DominoUIConfig;
 public class SummaryPluginConfig implements PluginConfig {
 
   private boolean removeOnEmptyData;
+  private boolean showAggregates = false;
 
   public SummaryPluginConfig(boolean removeOnEmptyData) {
     this.removeOnEmptyData = removeOnEmptyData;
@@ -56,4 +57,25 @@ public class SummaryPluginConfig implements PluginConfig {
     this.removeOnEmptyData = removeOnEmptyData;
     return this;
   }
+
+  /**
+   * @return boolean, true will cause the plugin to display the column aggregates maintained by the
+   *     data store in an aggregates summary row, default to false
+   */
+  public boolean isShowAggregates() {
+    return showAggregates;
+  }
+
+  /**
+   * Use this to configure the plugin to display an aggregates summary row, the data store must
+   * implement {@link org.dominokit.domino.ui.datatable.store.HasAggregates}, like the {@link
+   * org.dominokit.domino.ui.datatable.store.LocalListDataStore} with aggregated columns.
+   *
+   * @param showAggregates boolean, true to display the aggregates row, false to hide it.
+   * @return same config instance.
+   */
+  public SummaryPluginConfig setShowAggregates(boolean showAggregates) {
+    this.showAggregates = showAggregates;
+    return this;
+  }
 }
@@ -42,6 +42,7 @@ public class SummaryRow<T, S> extends BaseDominoElement<HTMLTableRowElement, Sum
     implements DataTableStyles {
   private S record;
   private final int index;
+  private boolean aggregatesRow = false;
   private DataTable<T> dataTable;
   private final Map<String, SummaryRowCell<T, S>> rowCells = new HashMap<>();
   private TableRowElement element = tr().addCss(dui_datatable_row);
@@ -126,6 +127,30 @@ public class SummaryRow<T, S> extends BaseDominoElement<HTMLTableRowElement, Sum
     return index;
   }
 
+  /**
+   * Checks if this row displays the column aggregates maintained by the data store instead of a
+   * summary record, see {@link SummaryPluginConfig#setShowAggregates(boolean)}.
+   *
+   * @return {@code true} if this is the aggregates row, {@code false} otherwise.
+   */
+  public boolean isAggregatesRow() {
+    return aggregatesRow;
+  }
+
+  void setAggregatesRow(boolean aggregatesRow) {
+    this.aggregatesRow = aggregatesRow;
+  }
+
+  /**
+   * Updates the cells of the aggregates row with the new aggregate values, only the cells whose
+   * aggregate value changed are rendered again.
+   *
+   * @param aggregates The aggregate values mapped by the column names.
+   */
+  public void updateAggregates(Map<String, Object> aggregates) {
+    rowCells.forEach((name, rowCell) -> rowCell.updateAggregate(aggregates.get(name)));
+  }
+
   /** Updates the summary row with the current summary record. */
   public void updateRow() {
     updateRow(this.record);
@@ -180,13 +205,11 @@ public class SummaryRow<T, S> extends BaseDominoElement<HTMLTableRowElement, Sum
   public void renderCell(ColumnConfig<T> columnConfig) {
     TDElement cellElement = td().addCss(dui_datatable_td);
 
-    ColumnCssRuleMeta.get(columnConfig)
-        .ifPresent(
-            meta ->
-                meta.cssRules()
-                    .forEach(
-                        columnCssRule ->
-                            cellElement.addCss(() -> columnCssRule.getCssRule().getCssClass())));
+    dataTable
+        .getColumnCssRuleMeta(columnConfig)
+        .cssRules()
+        .forEach(
+            columnCssRule -> cellElement.addCss(() -> columnCssRule.getCssRule().getCssClass()));
 
     SummaryRowCell<T, S> rowCell =
         new SummaryRowCell<>(
@@ -196,11 +219,7 @@ public class SummaryRow<T, S> extends BaseDominoElement<HTMLTableRowElement, Sum
 
     columnConfig.applyScreenMedia(cellElement.element());
 
-    if (columnConfig.isHidden()) {
-      cellElement.hide();
-    }
     element().appendChild(cellElement.element());
-    columnConfig.addShowHideListener(DefaultColumnShowHideListener.of(cellElement.element()));
   }
 
   /**
@@ -21,6 +21,7 @@ import static org.dominokit.domino.ui.utils.Domino.*;
 import static org.dominokit.domino.ui.utils.ElementsFactory.elements;
 
 import elemental2.dom.HTMLTableCellElement;
+import java.util.Objects;
 import java.util.Optional;
 import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.utils.DominoElement;
@@ -37,6 +38,8 @@ public class SummaryRowCell<T, S> {
   private final ColumnConfig<T> columnConfig;
   private final SummaryCellRenderer.SummaryCellInfo<T, S> cellInfo;
   private SummaryCellRenderer<T, S> defaultCellRenderer = cell -> elements.text();
+  private SummaryCellRenderer<T, S> defaultAggregateRenderer =
+      cell -> elements.text(Objects.toString(cell.getAggregate(), ""));
 
   /**
    * Constructs a new {@code SummaryRowCell} for the given column configuration and summary cell
@@ -85,13 +88,31 @@ public class SummaryRowCell<T, S> {
     }
 
     Optional<SummaryMeta<T, S>> summaryMeta = SummaryMeta.get(columnConfig);
-    if (summaryMeta.isPresent()) {
+    if (cellInfo.getSummaryRow().isAggregatesRow()) {
+      cellElement.appendChild(
+          summaryMeta
+              .map(SummaryMeta::getAggregateCellRenderer)
+              .orElse(defaultAggregateRenderer)
+              .asElement(cellInfo));
+    } else if (summaryMeta.isPresent()) {
       cellElement.appendChild(summaryMeta.get().getCellRenderer().asElement(cellInfo));
     } else {
       cellElement.appendChild(defaultCellRenderer.asElement(cellInfo));
     }
   }
 
+  /**
+   * Sets the aggregate value of this cell and renders the cell again only if the value changed.
+   *
+   * @param aggregate The new aggregate value of the cell column.
+   */
+  public void updateAggregate(Object aggregate) {
+    if (!Objects.equals(aggregate, cellInfo.getAggregate())) {
+      cellInfo.setAggregate(aggregate);
+      updateCell();
+    }
+  }
+
   /**
    * Gets the summary cell information associated with this cell.
    *
@@ -59,10 +59,10 @@ public class TreeChildRowAppender<T> implements TableConfig.RowAppender<T> {
           dataTable.bodyElement().insertAfter(tableRow, otherNode);
         }
       } else {
-        dataTable.bodyElement().appendChild(tableRow.element());
+        dataTable.appendRowElement(tableRow);
       }
     } else {
-      dataTable.bodyElement().appendChild(tableRow.element());
+      dataTable.appendRowElement(tableRow);
     }
   }
 }
@@ -19,6 +19,7 @@ package org.dominokit.domino.ui.datatable.plugins.tree;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.utils.Domino.*;
 
+import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLTableCellElement;
 import java.util.*;
@@ -32,11 +33,14 @@ import org.dominokit.domino.ui.datatable.plugins.tree.events.TreeRowCollapsedEve
 import org.dominokit.domino.ui.datatable.plugins.tree.events.TreeRowExpandedEvent;
 import org.dominokit.domino.ui.datatable.plugins.tree.events.TreeRowOnBeforeCollapseEvent;
 import org.dominokit.domino.ui.datatable.plugins.tree.events.TreeRowOnBeforeExpandEvent;
+import org.dominokit.domino.ui.datatable.plugins.tree.store.TreeNodeStore;
 import org.dominokit.domino.ui.elements.DivElement;
 import org.dominokit.domino.ui.icons.Icon;
 import org.dominokit.domino.ui.icons.ToggleIcon;
 import org.dominokit.domino.ui.utils.ComponentMeta;
 import org.dominokit.domino.ui.utils.DominoElement;
+import org.dominokit.domino.ui.utils.IntersectionObserver;
+import org.dominokit.domino.ui.utils.IntersectionObserverOptions;
 import org.dominokit.domino.ui.utils.Unit;
 
 /**
@@ -57,7 +61,9 @@ import org.dominokit.domino.ui.utils.Unit;
  *
  * All rows in the DataTable can be expanded or collapsed at once using the expandAllRows and
  * collapseAllRows methods. You can also expand or collapse individual rows using the expandRow and
- * collapseRow methods.
+ * collapseRow methods. When {@link TreePluginConfig#setExpandAllOnScroll(boolean)} is enabled,
+ * expandAllRows expands the rows as they are scrolled into view instead of expanding the whole tree
+ * at once.
  */
 public class TreeGridPlugin<T>
     implements DataTablePlugin<T>, HasPluginConfig<T, TreeGridPlugin<T>, TreePluginConfig<T>> {
@@ -76,6 +82,9 @@ public class TreeGridPlugin<T>
   private int expandedCount = 0;
   private DataTable<T> dataTable;
   private TreePluginConfig<T> config;
+  private IntersectionObserver expandOnScrollObserver;
+  private final Map<Element, TableRow<T>> pendingExpandRows = new HashMap<>();
+  private boolean expandOnScrollRecursive;
 
   /** Constructs a new TreeGridPlugin with default configuration. */
   public TreeGridPlugin() {
@@ -144,6 +153,7 @@ public class TreeGridPlugin<T>
                               treeStateMeta -> {
                                 treeStateMeta.onRowExpanded(row);
                               });
+                      observeChildrenForExpand(row);
                       this.dataTable.fireTableEvent(new TreeRowExpandedEvent<>(row));
                     });
               });
@@ -152,6 +162,7 @@ public class TreeGridPlugin<T>
       if (row.isRoot()) {
         increment();
       }
+      observeChildrenForExpand(row);
       this.dataTable.fireTableEvent(new TreeRowExpandedEvent<>(row));
     }
   }
@@ -159,7 +170,8 @@ public class TreeGridPlugin<T>
   /**
    * Handles the event when a new row is added to the DataTable. If the TreeGridPlugin is not
    * configured as lazy, it adds the children of the row to the table. If the added row was
-   * previously expanded, it ensures that the child rows are visible as well.
+   * previously expanded, or is an ancestor of a row matched by a search over the whole tree, it
+   * ensures that the child rows are visible as well.
    *
    * @param dataTable The DataTable to which the row is added.
    * @param tableRow The TableRow that was added.
@@ -170,14 +182,33 @@ public class TreeGridPlugin<T>
       addRowChildren(tableRow);
     }
 
-    TreeStateMeta.get(this.dataTable)
-        .ifPresent(
-            treeStateMeta -> {
-              if (treeStateMeta.isRowExpanded(tableRow)) {
-                expandRow(tableRow, false);
-                treeStateMeta.onExpandedRowAdded(tableRow);
-              }
-            });
+    boolean expanded =
+        TreeStateMeta.get(this.dataTable)
+            .map(
+                treeStateMeta -> {
+                  if (treeStateMeta.isRowExpanded(tableRow)) {
+                    expandRow(tableRow, false);
+                    treeStateMeta.onExpandedRowAdded(tableRow);
+                    return true;
+                  }
+                  return false;
+                })
+            .orElse(false);
+    if (!expanded && isExpandedBySearch(tableRow)) {
+      expandRow(tableRow, false);
+    }
+  }
+
+  /**
+   * Checks if the data store reports the row as an ancestor of a row matched by the last search.
+   *
+   * @param tableRow The TableRow to check.
+   * @return {@code true} if the row should be expanded to reveal the search matches.
+   */
+  @SuppressWarnings("unchecked")
+  private boolean isExpandedBySearch(TableRow<T> tableRow) {
+    return dataTable.getDataStore() instanceof TreeNodeStore
+        && ((TreeNodeStore<T>) dataTable.getDataStore()).isExpandedBySearch(tableRow.getRecord());
   }
 
   /**
@@ -298,7 +329,84 @@ public class TreeGridPlugin<T>
    *     expanded.
    */
   public void expandAllRows(boolean recursive) {
-    dataTable.getRows().forEach(tableRow -> expandRow(tableRow, recursive));
+    if (config.isExpandAllOnScroll()) {
+      expandRowsOnScroll(recursive);
+    } else {
+      dataTable.getRows().forEach(tableRow -> expandRow(tableRow, recursive));
+    }
+  }
+
+  /**
+   * Observes the root rows and expands each of them when it is scrolled into view, for a recursive
+   * expand the child rows of an expanded row are observed the same way.
+   *
+   * @param recursive If true, child rows are also expanded when they are scrolled into view.
+   */
+  private void expandRowsOnScroll(boolean recursive) {
+    stopExpandOnScroll();
+    expandOnScrollRecursive = recursive;
+    expandOnScrollObserver =
+        new IntersectionObserver(
+            entries ->
+                entries
+                    .asList()
+                    .forEach(
+                        entry -> {
+                          if (entry.getIsIntersecting()) {
+                            TableRow<T> row = pendingExpandRows.remove(entry.getTarget());
+                            if (nonNull(row)) {
+                              expandOnScrollObserver.unobserve(entry.getTarget());
+                              expandRow(row, false);
+                            }
+                          }
+                        }),
+            IntersectionObserverOptions.create());
+    dataTable.getRows().stream()
+        .filter(TableRow::isRoot)
+        .forEach(
+            tableRow -> {
+              if (canExpand(tableRow)) {
+                observeForExpand(tableRow);
+              }
+            });
+  }
+
+  /**
+   * Observes the child rows of an expanded row when a recursive expand on scroll is in progress.
+   *
+   * @param row The expanded TableRow.
+   */
+  private void observeChildrenForExpand(TableRow<T> row) {
+    if (nonNull(expandOnScrollObserver) && expandOnScrollRecursive) {
+      row.getChildren().stream().filter(this::canExpand).forEach(this::observeForExpand);
+    }
+  }
+
+  private boolean canExpand(TableRow<T> row) {
+    if (config.isLazy()) {
+      return TreeGridRowSubItemsMeta.get(row).map(meta -> meta.hasChildren(row)).orElse(false);
+    }
+    return !row.getChildren().isEmpty();
+  }
+
+  private void observeForExpand(TableRow<T> row) {
+    pendingExpandRows.put(row.element(), row);
+    expandOnScrollObserver.observe(row.element());
+  }
+
+  private void cancelExpandOnScroll(TableRow<T> row) {
+    if (nonNull(expandOnScrollObserver) && nonNull(pendingExpandRows.remove(row.element()))) {
+      expandOnScrollObserver.unobserve(row.element());
+    }
+  }
+
+  /** Stops expanding the rows that are not yet expanded by an expand all on scroll. */
+  private void stopExpandOnScroll() {
+    if (nonNull(expandOnScrollObserver)) {
+      expandOnScrollObserver.disconnect();
+      expandOnScrollObserver = null;
+    }
+    pendingExpandRows.clear();
   }
 
   /**
@@ -312,6 +420,7 @@ public class TreeGridPlugin<T>
 
   /** Collapses all rows in the DataTable, hiding child rows if any. */
   public void collapseAllRows() {
+    stopExpandOnScroll();
     dataTable.getRows().forEach(this::collapseRow);
   }
 
@@ -372,6 +481,7 @@ public class TreeGridPlugin<T>
         });
 
     for (TableRow<T> child : row.getChildren()) {
+      cancelExpandOnScroll(child);
       if (config.isLazy()) {
         child.remove();
       } else {
@@ -381,6 +491,9 @@ public class TreeGridPlugin<T>
     }
     if (config.isLazy()) {
       row.getChildren().clear();
+      if (dataTable.getDataStore() instanceof TreeNodeStore) {
+        ((TreeNodeStore<T>) dataTable.getDataStore()).onNodeCollapsed(row.getRecord());
+      }
     }
     if (row.isRoot()) {
       decrement();
@@ -537,6 +650,22 @@ public class TreeGridPlugin<T>
     }
   }
 
+  /**
+   * {@inheritDoc}
+   *
+   * <p>Tree rows are never recycled, a leaf row may be rebound to a record that has children while
+   * the tree utility cell, the row renderer and the tree metas of the row were set up for the
+   * previous record.
+   *
+   * @param dataTable The DataTable instance.
+   * @param tableRow The TableRow being released.
+   * @return {@code false}.
+   */
+  @Override
+  public boolean isRowRecyclable(DataTable<T> dataTable, TableRow<T> tableRow) {
+    return false;
+  }
+
   /**
    * Handles the event before adding a row to the DataTable.
    *
@@ -584,10 +713,29 @@ public class TreeGridPlugin<T>
           headerIcon.toggle();
         }
         expandedCount = 0;
+        stopExpandOnScroll();
         break;
     }
   }
 
+  /**
+   * Declares the table events handled by this plugin, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this,
+        TreeGridPlugin.class,
+        SortEvent.SORT_EVENT,
+        DataSortEvent.EVENT,
+        SearchEvent.SEARCH_EVENT,
+        SearchClearedEvent.SEARCH_EVENT_CLEARED,
+        TableDataUpdatedEvent.DATA_UPDATED,
+        TablePageChangeEvent.PAGINATION_EVENT);
+  }
+
   /**
    * Checks if a collection of items has children.
    *
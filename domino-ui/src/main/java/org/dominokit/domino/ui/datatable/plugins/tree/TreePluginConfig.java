@@ -48,6 +48,7 @@ public class TreePluginConfig<T> implements PluginConfig {
   private Supplier<Icon<?>> leafIconSupplier = Icons::circle_medium;
   private Function<TableRow<T>, Node> indentColumnElementSupplier = tableRow -> elements.text();
   private int indent = DEFAULT_INDENT;
+  private boolean expandAllOnScroll = false;
 
   /** Constructs a new TreePluginConfig with default settings. */
   public TreePluginConfig() {}
@@ -187,4 +188,28 @@ public class TreePluginConfig<T> implements PluginConfig {
     }
     return this;
   }
+
+  /**
+   * Checks if expanding all rows expands the rows only when they are scrolled into view.
+   *
+   * @return {@code true} if the rows are expanded as they scroll into view; otherwise, {@code
+   *     false}.
+   */
+  public boolean isExpandAllOnScroll() {
+    return expandAllOnScroll;
+  }
+
+  /**
+   * Sets whether expanding all rows expands the rows only when they are scrolled into view instead
+   * of expanding the whole tree at once. A row is expanded the first time it becomes visible, and
+   * for a recursive expand its child rows are expanded the same way when they become visible.
+   *
+   * @param expandAllOnScroll {@code true} to expand the rows as they scroll into view; {@code
+   *     false} to expand all of them at once.
+   * @return The TreePluginConfig instance.
+   */
+  public TreePluginConfig<T> setExpandAllOnScroll(boolean expandAllOnScroll) {
+    this.expandAllOnScroll = expandAllOnScroll;
+    return this;
+  }
 }
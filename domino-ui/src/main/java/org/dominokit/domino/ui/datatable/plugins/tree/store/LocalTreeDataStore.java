@@ -15,15 +15,18 @@
  */
 package org.dominokit.domino.ui.datatable.plugins.tree.store;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 import java.util.*;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.plugins.tree.SubItemsProvider;
 import org.dominokit.domino.ui.datatable.plugins.tree.TreeNodeChildrenAware;
 import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
+import org.dominokit.domino.ui.datatable.store.SearchFilter;
 
 /**
  * An implementation of the {@link TreeNodeStore} that uses local data to populate tree structured
@@ -36,10 +39,31 @@ import org.dominokit.domino.ui.datatable.store.LocalListDataStore;
  * LocalTreeDataStore store = new LocalTreeDataStore(provider);
  * </pre>
  *
+ * <p>The children of an expanded node are kept in a child store. By default the child stores are
+ * kept until the data is replaced, the cache can be bounded by the number of child stores or the
+ * number of cached child records, the least recently used child stores are evicted first, and the
+ * child store of a node can be evicted when the node is collapsed. An evicted child store is loaded
+ * again from the sub-items provider the next time the node is expanded.
+ *
+ * <p>With {@link #setSearchWholeTree(boolean)} the search is evaluated over all the nodes of the
+ * tree instead of the root records only. The store keeps the matched nodes and their ancestors, and
+ * the ancestors are reported as expanded by the search so that the matches are revealed.
+ *
  * @param <T> the type of data record
  */
 public class LocalTreeDataStore<T> extends LocalListDataStore<T> implements TreeNodeStore<T> {
-  private Map<T, LocalListDataStore<T>> childrenStore = new HashMap<>();
+  private Map<T, ChildrenStore<T>> childrenStore = new LinkedHashMap<>(16, 0.75f, true);
+  private int cachedChildRecords = 0;
+  private int maxCachedChildStores = 0;
+  private int maxCachedChildRecords = 0;
+  private boolean evictChildrenOnCollapse = false;
+  private SortEvent<T> sortedBy;
+  private int sortVersion = 0;
+  private int searchVersion = 0;
+  private boolean searchWholeTree = false;
+  private TreeSearchIndex<T> treeIndex;
+  private TreeSearchIndex.Result<T> treeSearchResult;
+  private SearchFilter<T> treeSearchFilter;
   private final SubItemsProvider<T> subItemsProvider;
   private final TreeNodeChildrenAware<T> treeNodeChildrenAware;
 
@@ -97,18 +121,30 @@ public class LocalTreeDataStore<T> extends LocalListDataStore<T> implements Tree
   /**
    * Handles changes in search criteria. It filters the records based on the search event and
    * updates the store with the filtered results. If there was a previous sorting operation, it will
-   * re-sort the filtered results.
+   * re-sort the filtered results. When the whole tree is searched the root records are filtered by
+   * the result of the tree search.
    *
    * @param event the search event containing search details
    */
   @Override
   public void onSearchChanged(SearchEvent event) {
     if (nonNull(getSearchFilter())) {
+      boolean refinement = isSearchRefinement(event);
       setLastSearch(event);
+      searchVersion++;
+      if (searchWholeTree && !event.getFilters().isEmpty()) {
+        searchTree(event, refinement);
+      } else {
+        treeSearchResult = null;
+        treeSearchFilter = null;
+      }
+      SearchFilter<T> rootsFilter = getChildrenSearchFilter();
       filtered =
           original.stream()
-              .filter(record -> getSearchFilter().filterRecord(event, record))
+              .filter(record -> rootsFilter.filterRecord(event, record))
               .collect(Collectors.toList());
+      updateSearchRefinement(event);
+      invalidateFilteredIndex();
       if (nonNull(getLastSort())) {
         sort(getLastSort());
       }
@@ -125,7 +161,126 @@ public class LocalTreeDataStore<T> extends LocalListDataStore<T> implements Tree
   @Override
   public void setData(List<T> data) {
     super.setData(data);
-    this.childrenStore.clear();
+    clearChildrenCache();
+    invalidateTreeIndex();
+  }
+
+  /**
+   * Evaluates the search over all the nodes of the tree, a search that refines the previous one is
+   * evaluated only over the previously matched nodes when the previous search covered the whole
+   * tree. The search is evaluated again once the children provided asynchronously are indexed.
+   *
+   * @param event the search event
+   * @param refinement true if the search only narrows down the previous search
+   */
+  private void searchTree(SearchEvent event, boolean refinement) {
+    if (isNull(treeIndex)) {
+      treeIndex =
+          new TreeSearchIndex<>(
+              original, subItemsProvider, treeNodeChildrenAware, this::onTreeIndexed);
+    }
+    SearchFilter<T> searchFilter = getSearchFilter();
+    boolean refineMatches =
+        refinement && nonNull(treeSearchResult) && treeSearchResult.isComplete();
+    TreeSearchIndex.Result<T> result =
+        treeIndex.search(
+            record -> searchFilter.filterRecord(event, record),
+            refineMatches ? treeSearchResult.getMatches() : null);
+    treeSearchResult = result;
+    treeSearchFilter = (searchEvent, record) -> result.isRetained(record);
+  }
+
+  /**
+   * Searches the tree again when the children that were provided asynchronously after the last
+   * search are indexed, so that the matches among them are revealed.
+   *
+   * @param index the tree index whose children are indexed
+   */
+  private void onTreeIndexed(TreeSearchIndex<T> index) {
+    if (index == treeIndex && nonNull(treeSearchResult) && nonNull(getLastSearch())) {
+      onSearchChanged(getLastSearch());
+    }
+  }
+
+  /**
+   * Returns the filter of the child stores, when the whole tree is searched the children are
+   * filtered by the result of the tree search, otherwise the search filter of this store is used.
+   *
+   * @return the search filter of the child stores
+   */
+  SearchFilter<T> getChildrenSearchFilter() {
+    return nonNull(treeSearchFilter) ? treeSearchFilter : getSearchFilter();
+  }
+
+  /**
+   * Sets whether the search is evaluated over all the nodes of the tree. The tree is indexed the
+   * first time it is searched by loading the children of all the nodes from the sub-items provider,
+   * and the index is reused by the following searches until the data is replaced or {@link
+   * #invalidateTreeIndex()} is called.
+   *
+   * @param searchWholeTree true to search all the nodes of the tree, false to search only the root
+   *     records
+   * @return same store instance
+   */
+  public LocalTreeDataStore<T> setSearchWholeTree(boolean searchWholeTree) {
+    this.searchWholeTree = searchWholeTree;
+    if (!searchWholeTree) {
+      invalidateTreeIndex();
+    }
+    return this;
+  }
+
+  /** @return true if the search is evaluated over all the nodes of the tree */
+  public boolean isSearchWholeTree() {
+    return searchWholeTree;
+  }
+
+  /**
+   * Discards the tree index, the tree is indexed again by the next search. Call this when the
+   * children provided by the sub-items provider change.
+   */
+  public void invalidateTreeIndex() {
+    this.treeIndex = null;
+    this.treeSearchResult = null;
+    this.treeSearchFilter = null;
+    invalidateSearchRefinement();
+  }
+
+  /**
+   * Returns the nodes matched by the last search over the whole tree.
+   *
+   * @return the matched records, empty if the whole tree is not searched
+   */
+  public Set<T> getSearchMatches() {
+    return nonNull(treeSearchResult)
+        ? Collections.unmodifiableSet(treeSearchResult.getMatches())
+        : Collections.emptySet();
+  }
+
+  /**
+   * Checks if a node is an ancestor of a node matched by the last search over the whole tree.
+   *
+   * @param record the node record
+   * @return true if the node should be expanded to reveal the matched nodes
+   */
+  @Override
+  public boolean isExpandedBySearch(T record) {
+    return nonNull(treeSearchResult) && treeSearchResult.isAncestor(record);
+  }
+
+  /**
+   * Sorts the root records, the child stores are sorted by the same sort the next time their
+   * children are requested unless they were already sorted by it.
+   *
+   * @param event The sorting event containing sort information.
+   */
+  @Override
+  public void sort(SortEvent<T> event) {
+    if (event != sortedBy) {
+      sortedBy = event;
+      sortVersion++;
+    }
+    super.sort(event);
   }
 
   /**
@@ -139,34 +294,179 @@ public class LocalTreeDataStore<T> extends LocalListDataStore<T> implements Tree
   @Override
   public void getNodeChildren(
       TreeNodeStoreContext<T> context, Consumer<Optional<Collection<T>>> itemsConsumer) {
-    if (!childrenStore.containsKey(context.getParent())) {
-      subItemsProvider.getSubItems(
-          context.getParent(),
-          children -> {
-            children.ifPresent(
-                childRecords -> {
-                  LocalListDataStore<T> subStore =
-                      new SubItemsStore<>(new ArrayList<>(childRecords), this);
-
-                  if (nonNull(context.getLastSearch())) {
-                    subStore.onSearchChanged(context.getLastSearch());
-                  } else if (nonNull(context.getLastSort())) {
-                    subStore.sort(context.getLastSort());
-                  }
-                  childrenStore.put(context.getParent(), subStore);
-                  List<T> filtered = childrenStore.get(context.getParent()).getFilteredRecords();
-                  itemsConsumer.accept(Optional.ofNullable(filtered));
-                });
-          });
+    ChildrenStore<T> cached = childrenStore.get(context.getParent());
+    if (isNull(cached)) {
+      Optional<List<T>> indexedChildren =
+          nonNull(treeIndex) ? treeIndex.getChildren(context.getParent()) : Optional.empty();
+      if (indexedChildren.isPresent()) {
+        cacheChildren(context, indexedChildren.get(), itemsConsumer);
+      } else {
+        subItemsProvider.getSubItems(
+            context.getParent(),
+            children ->
+                children.ifPresent(
+                    childRecords -> cacheChildren(context, childRecords, itemsConsumer)));
+      }
     } else {
-      if (nonNull(getLastSort())) {
-        childrenStore.get(context.getParent()).sort(context.getLastSort());
+      if (nonNull(context.getLastSearch()) && cached.searchVersion != searchVersion) {
+        cached.store.onSearchChanged(context.getLastSearch());
+        cached.sortVersion = sortVersion;
+      } else if (nonNull(context.getLastSort()) && cached.sortVersion != sortVersion) {
+        cached.store.sort(context.getLastSort());
+        cached.sortVersion = sortVersion;
+      }
+      cached.searchVersion = searchVersion;
+      itemsConsumer.accept(Optional.ofNullable(cached.store.getFilteredRecords()));
+    }
+  }
+
+  /**
+   * Creates and caches the child store of a node, then passes its filtered records to the
+   * consumer.
+   *
+   * @param context the context providing details about the parent node
+   * @param childRecords the children of the node
+   * @param itemsConsumer a consumer to accept the filtered children
+   */
+  private void cacheChildren(
+      TreeNodeStoreContext<T> context,
+      Collection<T> childRecords,
+      Consumer<Optional<Collection<T>>> itemsConsumer) {
+    LocalListDataStore<T> subStore = new SubItemsStore<>(new ArrayList<>(childRecords), this);
+
+    if (nonNull(context.getLastSearch())) {
+      subStore.onSearchChanged(context.getLastSearch());
+    } else if (nonNull(context.getLastSort())) {
+      subStore.sort(context.getLastSort());
+    }
+    ChildrenStore<T> entry =
+        new ChildrenStore<>(subStore, childRecords.size(), sortVersion, searchVersion);
+    evictNodeChildren(context.getParent());
+    childrenStore.put(context.getParent(), entry);
+    cachedChildRecords += entry.size;
+    evictOverflow(context.getParent());
+    itemsConsumer.accept(Optional.ofNullable(subStore.getFilteredRecords()));
+  }
+
+  /**
+   * Evicts the child store of the collapsed node when {@link #setEvictChildrenOnCollapse(boolean)}
+   * is enabled.
+   *
+   * @param record the collapsed node record
+   */
+  @Override
+  public void onNodeCollapsed(T record) {
+    if (evictChildrenOnCollapse) {
+      evictNodeChildren(record);
+    }
+  }
+
+  /**
+   * Removes the cached child store of a node, its children are loaded again from the sub-items
+   * provider the next time they are requested.
+   *
+   * @param parent the parent node record
+   * @return true if a child store was cached for the node, false otherwise
+   */
+  public boolean evictNodeChildren(T parent) {
+    ChildrenStore<T> removed = childrenStore.remove(parent);
+    if (nonNull(removed)) {
+      cachedChildRecords -= removed.size;
+      return true;
+    }
+    return false;
+  }
+
+  /** Removes all the cached child stores. */
+  public void clearChildrenCache() {
+    childrenStore.clear();
+    cachedChildRecords = 0;
+  }
+
+  /**
+   * Evicts the least recently used child stores until the cache is within the configured bounds,
+   * the child store of the most recently loaded node is always kept.
+   *
+   * @param keep the node whose child store should not be evicted
+   */
+  private void evictOverflow(T keep) {
+    Iterator<Map.Entry<T, ChildrenStore<T>>> iterator = childrenStore.entrySet().iterator();
+    while (iterator.hasNext() && isOverflowing()) {
+      Map.Entry<T, ChildrenStore<T>> entry = iterator.next();
+      if (!Objects.equals(entry.getKey(), keep)) {
+        cachedChildRecords -= entry.getValue().size;
+        iterator.remove();
       }
-      itemsConsumer.accept(
-          Optional.ofNullable(childrenStore.get(context.getParent()).getFilteredRecords()));
     }
   }
 
+  private boolean isOverflowing() {
+    return (maxCachedChildStores > 0 && childrenStore.size() > maxCachedChildStores)
+        || (maxCachedChildRecords > 0 && cachedChildRecords > maxCachedChildRecords);
+  }
+
+  /**
+   * Sets the maximum number of cached child stores, the least recently used child stores are
+   * evicted when the limit is exceeded.
+   *
+   * @param maxCachedChildStores the maximum number of child stores, 0 or less for no limit
+   * @return same store instance
+   */
+  public LocalTreeDataStore<T> setMaxCachedChildStores(int maxCachedChildStores) {
+    this.maxCachedChildStores = maxCachedChildStores;
+    evictOverflow(null);
+    return this;
+  }
+
+  /** @return the maximum number of cached child stores, 0 or less for no limit */
+  public int getMaxCachedChildStores() {
+    return maxCachedChildStores;
+  }
+
+  /**
+   * Sets the maximum number of child records kept in all the cached child stores, the least
+   * recently used child stores are evicted when the limit is exceeded.
+   *
+   * @param maxCachedChildRecords the maximum number of cached child records, 0 or less for no limit
+   * @return same store instance
+   */
+  public LocalTreeDataStore<T> setMaxCachedChildRecords(int maxCachedChildRecords) {
+    this.maxCachedChildRecords = maxCachedChildRecords;
+    evictOverflow(null);
+    return this;
+  }
+
+  /** @return the maximum number of cached child records, 0 or less for no limit */
+  public int getMaxCachedChildRecords() {
+    return maxCachedChildRecords;
+  }
+
+  /**
+   * Sets whether the child store of a node is evicted when the node is collapsed.
+   *
+   * @param evictChildrenOnCollapse true to evict the children of collapsed nodes
+   * @return same store instance
+   */
+  public LocalTreeDataStore<T> setEvictChildrenOnCollapse(boolean evictChildrenOnCollapse) {
+    this.evictChildrenOnCollapse = evictChildrenOnCollapse;
+    return this;
+  }
+
+  /** @return true if the child store of a node is evicted when the node is collapsed */
+  public boolean isEvictChildrenOnCollapse() {
+    return evictChildrenOnCollapse;
+  }
+
+  /** @return the number of cached child stores */
+  public int getCachedChildStoresCount() {
+    return childrenStore.size();
+  }
+
+  /** @return the number of child records in all the cached child stores */
+  public int getCachedChildRecordsCount() {
+    return cachedChildRecords;
+  }
+
   /**
    * Determines if the specified record has children. This determination is made based on the
    * treeNodeChildrenAware provided during instantiation.
@@ -178,4 +478,23 @@ public class LocalTreeDataStore<T> extends LocalListDataStore<T> implements Tree
   public boolean hasChildren(T record) {
     return this.treeNodeChildrenAware.hasChildren(record);
   }
+
+  /**
+   * A cached child store with the number of its records and the sort and search versions it was
+   * last sorted and filtered with.
+   */
+  private static class ChildrenStore<T> {
+    private final LocalListDataStore<T> store;
+    private final int size;
+    private int sortVersion;
+    private int searchVersion;
+
+    private ChildrenStore(
+        LocalListDataStore<T> store, int size, int sortVersion, int searchVersion) {
+      this.store = store;
+      this.size = size;
+      this.sortVersion = sortVersion;
+      this.searchVersion = searchVersion;
+    }
+  }
 }
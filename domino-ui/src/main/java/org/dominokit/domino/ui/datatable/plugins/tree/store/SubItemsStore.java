@@ -63,12 +63,24 @@ public class SubItemsStore<T> extends LocalListDataStore<T> {
     return parent.getPagination();
   }
 
-  /** {@inheritDoc} */
+  /**
+   * {@inheritDoc}
+   *
+   * <p>When the parent store searches the whole tree, the children are filtered by the result of
+   * that search.
+   */
   @Override
   public SearchFilter<T> getSearchFilter() {
-    return parent.getSearchFilter();
+    return parent.getChildrenSearchFilter();
   }
 
+  /**
+   * A child store is not bound to a table, only its filtered records are used, so it does not load
+   * the records or update the pagination of the table.
+   */
+  @Override
+  protected void loadFirstPage() {}
+
   /** {@inheritDoc} */
   @Override
   public RecordsSorter<T> getRecordsSorter() {
@@ -62,4 +62,22 @@ public interface TreeNodeStore<T> {
    * @return {@code true} if the node has children, {@code false} otherwise.
    */
   boolean hasChildren(T record);
+
+  /**
+   * Called when a tree node is collapsed, stores that cache the children of the nodes can use it
+   * to release them.
+   *
+   * @param record The collapsed tree node.
+   */
+  default void onNodeCollapsed(T record) {}
+
+  /**
+   * Checks if a tree node should be expanded to reveal the nodes matched by the last search.
+   *
+   * @param record The tree node to check.
+   * @return {@code true} if the node is an ancestor of a matched node, {@code false} otherwise.
+   */
+  default boolean isExpandedBySearch(T record) {
+    return false;
+  }
 }
@@ -0,0 +1,197 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.plugins.tree.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.*;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import org.dominokit.domino.ui.datatable.plugins.tree.SubItemsProvider;
+import org.dominokit.domino.ui.datatable.plugins.tree.TreeNodeChildrenAware;
+
+/**
+ * A flattened index of all the nodes of a tree, each node keeps a pointer to its parent so that a
+ * search can be evaluated over the whole tree in one pass and the ancestors of the matched nodes can
+ * be found without walking the tree again.
+ *
+ * <p>The index loads the children of every node from the sub-items provider once, children that
+ * are provided asynchronously are indexed when they arrive and the index notifies its listener
+ * once all of them arrived, the searches made before that only cover the nodes indexed so far.
+ *
+ * @param <T> the type of data record
+ */
+class TreeSearchIndex<T> {
+
+  private final List<IndexedNode<T>> nodes = new ArrayList<>();
+  private final Map<T, IndexedNode<T>> nodesByRecord = new HashMap<>();
+  private final SubItemsProvider<T> subItemsProvider;
+  private final TreeNodeChildrenAware<T> treeNodeChildrenAware;
+  private final Consumer<TreeSearchIndex<T>> onIndexed;
+  private int pendingLoads = 0;
+  private boolean indexing = true;
+
+  /**
+   * Creates the index of the tree with the specified root records.
+   *
+   * @param roots the root records
+   * @param subItemsProvider the provider of the children of the nodes
+   * @param treeNodeChildrenAware checker to determine if a node has children
+   * @param onIndexed called with this index when the children that were provided asynchronously
+   *     are all indexed
+   */
+  TreeSearchIndex(
+      List<T> roots,
+      SubItemsProvider<T> subItemsProvider,
+      TreeNodeChildrenAware<T> treeNodeChildrenAware,
+      Consumer<TreeSearchIndex<T>> onIndexed) {
+    this.subItemsProvider = subItemsProvider;
+    this.treeNodeChildrenAware = treeNodeChildrenAware;
+    this.onIndexed = onIndexed;
+    roots.forEach(root -> addNode(root, null));
+    indexing = false;
+  }
+
+  private void addNode(T record, IndexedNode<T> parent) {
+    IndexedNode<T> node = new IndexedNode<>(record, parent);
+    nodes.add(node);
+    nodesByRecord.put(record, node);
+    if (treeNodeChildrenAware.hasChildren(record)) {
+      pendingLoads++;
+      subItemsProvider.getSubItems(
+          record,
+          items -> {
+            items.ifPresent(
+                children -> {
+                  node.children = new ArrayList<>(children);
+                  node.children.forEach(child -> addNode(child, node));
+                });
+            pendingLoads--;
+            if (!indexing && isComplete()) {
+              onIndexed.accept(this);
+            }
+          });
+    }
+  }
+
+  /** @return true if the children of all the nodes that have children are indexed */
+  boolean isComplete() {
+    return pendingLoads == 0;
+  }
+
+  /**
+   * Returns the indexed children of a node.
+   *
+   * @param record the parent record
+   * @return the children of the node, or empty if the children of the node were not indexed
+   */
+  Optional<List<T>> getChildren(T record) {
+    IndexedNode<T> node = nodesByRecord.get(record);
+    return isNull(node) ? Optional.empty() : Optional.ofNullable(node.children);
+  }
+
+  /**
+   * Evaluates the filter over the indexed nodes in one pass.
+   *
+   * @param filter the filter to evaluate
+   * @param candidates the records to evaluate when the search refines a previous one, or null to
+   *     evaluate all the nodes
+   * @return the search result
+   */
+  Result<T> search(Predicate<T> filter, Set<T> candidates) {
+    Result<T> result = new Result<>(isComplete());
+    if (nonNull(candidates)) {
+      for (T record : candidates) {
+        IndexedNode<T> node = nodesByRecord.get(record);
+        if (nonNull(node) && filter.test(record)) {
+          result.add(node);
+        }
+      }
+    } else {
+      for (IndexedNode<T> node : nodes) {
+        if (filter.test(node.record)) {
+          result.add(node);
+        }
+      }
+    }
+    return result;
+  }
+
+  /**
+   * The nodes matched by a search, the nodes on the paths from the roots to the matched nodes are
+   * retained so that the matched nodes stay reachable.
+   *
+   * @param <T> the type of data record
+   */
+  static class Result<T> {
+    private final Set<T> matches = new HashSet<>();
+    private final Set<T> ancestors = new HashSet<>();
+    private final boolean complete;
+
+    private Result(boolean complete) {
+      this.complete = complete;
+    }
+
+    private void add(IndexedNode<T> node) {
+      matches.add(node.record);
+      IndexedNode<T> parent = node.parent;
+      while (nonNull(parent) && ancestors.add(parent.record)) {
+        parent = parent.parent;
+      }
+    }
+
+    /** @return the records matched by the search */
+    Set<T> getMatches() {
+      return matches;
+    }
+
+    /**
+     * @return true if the search covered the whole tree, false if some children were not indexed
+     *     yet
+     */
+    boolean isComplete() {
+      return complete;
+    }
+
+    /**
+     * @param record the record to check
+     * @return true if the record matches the search or is an ancestor of a matched record
+     */
+    boolean isRetained(T record) {
+      return matches.contains(record) || ancestors.contains(record);
+    }
+
+    /**
+     * @param record the record to check
+     * @return true if the record is an ancestor of a matched record
+     */
+    boolean isAncestor(T record) {
+      return ancestors.contains(record);
+    }
+  }
+
+  private static class IndexedNode<T> {
+    private final T record;
+    private final IndexedNode<T> parent;
+    private List<T> children;
+
+    private IndexedNode(T record, IndexedNode<T> parent) {
+      this.record = record;
+      this.parent = parent;
+    }
+  }
+}
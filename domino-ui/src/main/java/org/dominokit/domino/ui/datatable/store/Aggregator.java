@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code Aggregator} interface defines an aggregate computed over the values of one column for
+ * all the filtered records of a data store, like a sum or a count. The data store keeps one {@link
+ * Accumulator} per aggregated column and updates it as records are added, updated and removed
+ * instead of computing the aggregate again from all the records.
+ *
+ * @see Aggregators
+ * @see org.dominokit.domino.ui.datatable.ColumnConfig#setAggregation(Aggregator,
+ *     java.util.function.Function)
+ */
+@FunctionalInterface
+public interface Aggregator {
+
+  /**
+   * Creates a new empty accumulator for this aggregate.
+   *
+   * @return The new accumulator.
+   */
+  Accumulator createAccumulator();
+
+  /**
+   * The {@code Accumulator} interface holds the running state of an aggregate. Values passed to the
+   * accumulator can be {@code null}, aggregates ignore them unless stated otherwise.
+   */
+  interface Accumulator {
+
+    /**
+     * Adds the value of a record to the aggregate.
+     *
+     * @param value The column value of the added record.
+     */
+    void add(Object value);
+
+    /**
+     * Removes the value of a record from the aggregate.
+     *
+     * @param value The column value of the removed record.
+     * @return {@code true} if the value was removed, {@code false} if the aggregate cannot remove
+     *     values and must be computed again from all the records.
+     */
+    boolean remove(Object value);
+
+    /**
+     * Gets the current value of the aggregate.
+     *
+     * @return The aggregate value.
+     */
+    Object getResult();
+  }
+}
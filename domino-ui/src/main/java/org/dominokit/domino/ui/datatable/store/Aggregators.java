@@ -0,0 +1,290 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.BinaryOperator;
+
+/**
+ * The {@code Aggregators} class provides the common {@link Aggregator}s. Numeric aggregates expect
+ * the column values to be {@link Number}s, and the minimum and maximum aggregates expect them to be
+ * mutually {@link Comparable} unless they are created with a {@link Comparator}.
+ */
+public class Aggregators {
+
+  private Aggregators() {}
+
+  /**
+   * Creates an aggregator that sums the numeric values as a {@link Double}.
+   *
+   * @return The sum aggregator.
+   */
+  public static Aggregator sum() {
+    return () -> new NumericAccumulator(false);
+  }
+
+  /**
+   * Creates an aggregator that averages the numeric values as a {@link Double}, the result is
+   * {@code null} when there are no values.
+   *
+   * @return The average aggregator.
+   */
+  public static Aggregator avg() {
+    return () -> new NumericAccumulator(true);
+  }
+
+  /**
+   * Creates an aggregator that counts the non {@code null} values as an {@link Integer}.
+   *
+   * @return The count aggregator.
+   */
+  public static Aggregator count() {
+    return () ->
+        new Aggregator.Accumulator() {
+          private int count = 0;
+
+          @Override
+          public void add(Object value) {
+            if (nonNull(value)) {
+              count++;
+            }
+          }
+
+          @Override
+          public boolean remove(Object value) {
+            if (nonNull(value)) {
+              count--;
+            }
+            return true;
+          }
+
+          @Override
+          public Object getResult() {
+            return count;
+          }
+        };
+  }
+
+  /**
+   * Creates an aggregator that keeps the smallest value in the natural order, the result is {@code
+   * null} when there are no values. The values must be mutually {@link Comparable}, use {@link
+   * #min(Comparator)} otherwise.
+   *
+   * @return The minimum aggregator.
+   */
+  public static Aggregator min() {
+    return () -> new ValueCountsAccumulator(true, null);
+  }
+
+  /**
+   * Creates an aggregator that keeps the smallest value in the order of the comparator, the result
+   * is {@code null} when there are no values.
+   *
+   * @param comparator Compares the values.
+   * @param <V> The type of the values.
+   * @return The minimum aggregator.
+   */
+  public static <V> Aggregator min(Comparator<? super V> comparator) {
+    return () -> new ValueCountsAccumulator(true, comparator);
+  }
+
+  /**
+   * Creates an aggregator that keeps the largest value in the natural order, the result is {@code
+   * null} when there are no values. The values must be mutually {@link Comparable}, use {@link
+   * #max(Comparator)} otherwise.
+   *
+   * @return The maximum aggregator.
+   */
+  public static Aggregator max() {
+    return () -> new ValueCountsAccumulator(false, null);
+  }
+
+  /**
+   * Creates an aggregator that keeps the largest value in the order of the comparator, the result
+   * is {@code null} when there are no values.
+   *
+   * @param comparator Compares the values.
+   * @param <V> The type of the values.
+   * @return The maximum aggregator.
+   */
+  public static <V> Aggregator max(Comparator<? super V> comparator) {
+    return () -> new ValueCountsAccumulator(false, comparator);
+  }
+
+  /**
+   * Creates an aggregator that counts the distinct non {@code null} values as an {@link Integer}.
+   *
+   * @return The distinct count aggregator.
+   */
+  public static Aggregator distinctCount() {
+    return () -> new ValueCountsAccumulator(null, null);
+  }
+
+  /**
+   * Creates an aggregator from a monoid, the values are combined in order starting from the
+   * identity. Since a monoid cannot remove a value, removing or updating a record computes the
+   * aggregate again from all the records, use {@link #group(Object, BinaryOperator,
+   * BinaryOperator)} when the operation has an inverse.
+   *
+   * @param identity The identity value of the operation.
+   * @param combine Combines the aggregate with a value.
+   * @param <V> The type of the values.
+   * @return The monoid aggregator.
+   */
+  public static <V> Aggregator monoid(V identity, BinaryOperator<V> combine) {
+    return group(identity, combine, null);
+  }
+
+  /**
+   * Creates an aggregator from an operation that has an inverse, removing a record applies the
+   * inverse to the aggregate instead of computing it again.
+   *
+   * @param identity The identity value of the operation.
+   * @param combine Combines the aggregate with a value.
+   * @param inverse Removes a value from the aggregate.
+   * @param <V> The type of the values.
+   * @return The aggregator.
+   */
+  @SuppressWarnings("unchecked")
+  public static <V> Aggregator group(
+      V identity, BinaryOperator<V> combine, BinaryOperator<V> inverse) {
+    return () ->
+        new Aggregator.Accumulator() {
+          private V result = identity;
+
+          @Override
+          public void add(Object value) {
+            if (nonNull(value)) {
+              result = combine.apply(result, (V) value);
+            }
+          }
+
+          @Override
+          public boolean remove(Object value) {
+            if (isNull(value)) {
+              return true;
+            }
+            if (isNull(inverse)) {
+              return false;
+            }
+            result = inverse.apply(result, (V) value);
+            return true;
+          }
+
+          @Override
+          public Object getResult() {
+            return result;
+          }
+        };
+  }
+
+  private static class NumericAccumulator implements Aggregator.Accumulator {
+    private final boolean average;
+    private double sum = 0;
+    private int count = 0;
+
+    private NumericAccumulator(boolean average) {
+      this.average = average;
+    }
+
+    @Override
+    public void add(Object value) {
+      if (nonNull(value)) {
+        sum += ((Number) value).doubleValue();
+        count++;
+      }
+    }
+
+    @Override
+    public boolean remove(Object value) {
+      if (nonNull(value)) {
+        sum -= ((Number) value).doubleValue();
+        count--;
+      }
+      return true;
+    }
+
+    @Override
+    public Object getResult() {
+      if (!average) {
+        return sum;
+      }
+      return count > 0 ? sum / count : null;
+    }
+  }
+
+  /**
+   * Keeps the number of occurrences of each value, sorted for the minimum and maximum aggregates
+   * so that removing the current minimum or maximum does not require a full pass.
+   */
+  private static class ValueCountsAccumulator implements Aggregator.Accumulator {
+    private final Boolean min;
+    private final boolean naturalOrder;
+    private final Map<Object, Integer> counts;
+
+    @SuppressWarnings("unchecked")
+    private ValueCountsAccumulator(Boolean min, Comparator<?> comparator) {
+      this.min = min;
+      this.naturalOrder = nonNull(min) && isNull(comparator);
+      this.counts = isNull(min) ? new HashMap<>() : new TreeMap<>((Comparator<Object>) comparator);
+    }
+
+    @Override
+    public void add(Object value) {
+      if (nonNull(value)) {
+        if (naturalOrder && !(value instanceof Comparable)) {
+          throw new IllegalArgumentException("Not a Comparable value, use a comparator: " + value);
+        }
+        Integer count = counts.get(value);
+        counts.put(value, isNull(count) ? 1 : count + 1);
+      }
+    }
+
+    @Override
+    public boolean remove(Object value) {
+      if (nonNull(value)) {
+        Integer count = counts.get(value);
+        if (isNull(count)) {
+          return false;
+        }
+        if (count > 1) {
+          counts.put(value, count - 1);
+        } else {
+          counts.remove(value);
+        }
+      }
+      return true;
+    }
+
+    @Override
+    public Object getResult() {
+      if (isNull(min)) {
+        return counts.size();
+      }
+      if (counts.isEmpty()) {
+        return null;
+      }
+      TreeMap<Object, Integer> sorted = (TreeMap<Object, Integer>) counts;
+      return min ? sorted.firstKey() : sorted.lastKey();
+    }
+  }
+}
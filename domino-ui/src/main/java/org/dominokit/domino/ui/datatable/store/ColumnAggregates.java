@@ -0,0 +1,150 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.nonNull;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Maintains the aggregates of the aggregated columns of a {@link LocalListDataStore} over its
+ * filtered records. The aggregates are updated incrementally as records are added, replaced and
+ * removed, and computed again from the records on the next read after being invalidated.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+class ColumnAggregates<T> {
+
+  private final Map<String, ColumnAggregate<T>> aggregates = new LinkedHashMap<>();
+  private boolean valid = false;
+  private boolean changed = false;
+
+  void put(String name, Function<? super T, ?> valueExtractor, Aggregator aggregator) {
+    aggregates.put(name, new ColumnAggregate<>(valueExtractor, aggregator));
+    valid = false;
+    changed = true;
+  }
+
+  void remove(String name) {
+    changed |= nonNull(aggregates.remove(name));
+  }
+
+  /**
+   * Creates new aggregates of the same columns with empty accumulators.
+   *
+   * @return The new column aggregates.
+   */
+  ColumnAggregates<T> copy() {
+    ColumnAggregates<T> copy = new ColumnAggregates<>();
+    aggregates.forEach(
+        (name, aggregate) -> copy.put(name, aggregate.valueExtractor, aggregate.aggregator));
+    return copy;
+  }
+
+  boolean isEmpty() {
+    return aggregates.isEmpty();
+  }
+
+  void invalidate() {
+    valid = false;
+    changed |= !aggregates.isEmpty();
+  }
+
+  /**
+   * Checks if the aggregates may have changed since the last call, and resets the changed state.
+   *
+   * @return {@code true} if the aggregates may have changed, {@code false} otherwise.
+   */
+  boolean takeChanged() {
+    boolean wasChanged = changed;
+    changed = false;
+    return wasChanged;
+  }
+
+  void onAdded(T record) {
+    changed |= !aggregates.isEmpty();
+    if (valid) {
+      aggregates.values().forEach(aggregate -> aggregate.add(record));
+    }
+  }
+
+  void onRemoved(T record) {
+    changed |= !aggregates.isEmpty();
+    if (valid) {
+      for (ColumnAggregate<T> aggregate : aggregates.values()) {
+        if (!aggregate.remove(record)) {
+          valid = false;
+          return;
+        }
+      }
+    }
+  }
+
+  void onReplaced(T oldRecord, T newRecord) {
+    onRemoved(oldRecord);
+    onAdded(newRecord);
+  }
+
+  /**
+   * Gets the aggregate values, computing them from the records when they were invalidated.
+   *
+   * @param records The filtered records of the store.
+   * @return The aggregate values mapped by the column names.
+   */
+  Map<String, Object> getResults(List<T> records) {
+    if (aggregates.isEmpty()) {
+      return Collections.emptyMap();
+    }
+    if (!valid) {
+      for (ColumnAggregate<T> aggregate : aggregates.values()) {
+        aggregate.reset();
+        records.forEach(aggregate::add);
+      }
+      valid = true;
+    }
+    Map<String, Object> results = new LinkedHashMap<>();
+    aggregates.forEach((name, aggregate) -> results.put(name, aggregate.accumulator.getResult()));
+    return results;
+  }
+
+  private static class ColumnAggregate<T> {
+    private final Function<? super T, ?> valueExtractor;
+    private final Aggregator aggregator;
+    private Aggregator.Accumulator accumulator;
+
+    private ColumnAggregate(Function<? super T, ?> valueExtractor, Aggregator aggregator) {
+      this.valueExtractor = valueExtractor;
+      this.aggregator = aggregator;
+      reset();
+    }
+
+    private void reset() {
+      this.accumulator = aggregator.createAccumulator();
+    }
+
+    private void add(T record) {
+      accumulator.add(valueExtractor.apply(record));
+    }
+
+    private boolean remove(T record) {
+      return accumulator.remove(valueExtractor.apply(record));
+    }
+  }
+}
@@ -0,0 +1,382 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.Operator;
+
+/**
+ * An index of the values of one column, it answers the filters of that column with the positions
+ * of the matching records instead of evaluating the filter on every record. The index is built
+ * lazily from the records on the first lookup, and should be invalidated whenever the records
+ * change.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ * @see FilterIndexType
+ */
+public class ColumnValueIndex<T> {
+
+  private static final int GRAM_SIZE = 3;
+
+  private final FilterIndexType type;
+  private final Function<? super T, ?> valueExtractor;
+  private boolean built = false;
+  private int size;
+
+  private Map<String, int[]> buckets;
+  private int[] sortedPositions;
+  private double[] sortedValues;
+  private String[] texts;
+  private Map<String, int[]> grams;
+
+  /**
+   * Creates a new index.
+   *
+   * @param type The type of the index.
+   * @param valueExtractor The function that extracts the indexed value from a record.
+   */
+  public ColumnValueIndex(FilterIndexType type, Function<? super T, ?> valueExtractor) {
+    this.type = type;
+    this.valueExtractor = valueExtractor;
+  }
+
+  /**
+   * Retrieves the type of this index.
+   *
+   * @return The index type.
+   */
+  public FilterIndexType getType() {
+    return type;
+  }
+
+  /** Invalidates the index, it will be rebuilt on the next lookup. */
+  public void invalidate() {
+    this.built = false;
+    this.buckets = null;
+    this.sortedPositions = null;
+    this.sortedValues = null;
+    this.texts = null;
+    this.grams = null;
+  }
+
+  /**
+   * Finds the positions of the records that match the filter.
+   *
+   * @param records The indexed records, the index is built from them if needed.
+   * @param filter The filter to answer.
+   * @return The matching positions in ascending order, or {@code null} if the filter cannot be
+   *     answered by this index.
+   */
+  public int[] match(List<T> records, Filter filter) {
+    List<String> values = filter.getValues();
+    if (isNull(values) || values.isEmpty() || values.contains(null)) {
+      return null;
+    }
+    if (!built || size != records.size()) {
+      build(records);
+    }
+    switch (type) {
+      case TEXT:
+        return matchText(filter.getOperator(), values);
+      case EQUALITY:
+        return matchEquality(filter.getOperator(), values);
+      case RANGE:
+        return matchRange(filter.getOperator(), values);
+      default:
+        return null;
+    }
+  }
+
+  private void build(List<T> records) {
+    invalidate();
+    size = records.size();
+    switch (type) {
+      case TEXT:
+        buildText(records);
+        break;
+      case EQUALITY:
+        buildEquality(records);
+        break;
+      case RANGE:
+        buildRange(records);
+        break;
+    }
+    built = true;
+  }
+
+  private void buildText(List<T> records) {
+    texts = new String[size];
+    Map<String, List<Integer>> postings = new HashMap<>();
+    Set<String> recordGrams = new HashSet<>();
+    for (int position = 0; position < size; position++) {
+      Object value = valueExtractor.apply(records.get(position));
+      String text = isNull(value) ? "" : String.valueOf(value).toLowerCase();
+      texts[position] = text;
+      recordGrams.clear();
+      for (int i = 0; i + GRAM_SIZE <= text.length(); i++) {
+        recordGrams.add(text.substring(i, i + GRAM_SIZE));
+      }
+      for (String gram : recordGrams) {
+        postings.computeIfAbsent(gram, key -> new ArrayList<>()).add(position);
+      }
+    }
+    grams = toArrays(postings);
+  }
+
+  private void buildEquality(List<T> records) {
+    Map<String, List<Integer>> postings = new HashMap<>();
+    for (int position = 0; position < size; position++) {
+      Object value = valueExtractor.apply(records.get(position));
+      if (nonNull(value)) {
+        postings.computeIfAbsent(String.valueOf(value), key -> new ArrayList<>()).add(position);
+      }
+    }
+    buckets = toArrays(postings);
+  }
+
+  private void buildRange(List<T> records) {
+    List<Integer> positions = new ArrayList<>();
+    double[] values = new double[size];
+    for (int position = 0; position < size; position++) {
+      Double value = toNumber(valueExtractor.apply(records.get(position)));
+      if (nonNull(value)) {
+        positions.add(position);
+        values[position] = value;
+      }
+    }
+    positions.sort((first, second) -> Double.compare(values[first], values[second]));
+    sortedPositions = new int[positions.size()];
+    sortedValues = new double[positions.size()];
+    for (int i = 0; i < positions.size(); i++) {
+      sortedPositions[i] = positions.get(i);
+      sortedValues[i] = values[sortedPositions[i]];
+    }
+  }
+
+  private int[] matchText(Operator operator, List<String> values) {
+    if (values.size() != 1) {
+      return null;
+    }
+    String query = values.get(0).toLowerCase();
+    TextMatcher matcher;
+    if (Operator.like.equals(operator) || Operator.isContains.equals(operator)) {
+      matcher = text -> text.contains(query);
+    } else if (Operator.startsWith.equals(operator)) {
+      matcher = text -> text.startsWith(query);
+    } else if (Operator.endsWith.equals(operator)) {
+      matcher = text -> text.endsWith(query);
+    } else {
+      return null;
+    }
+
+    int[] candidates = null;
+    for (int i = 0; i + GRAM_SIZE <= query.length(); i++) {
+      int[] posting = grams.get(query.substring(i, i + GRAM_SIZE));
+      if (isNull(posting)) {
+        return new int[0];
+      }
+      candidates = isNull(candidates) ? posting : intersect(candidates, posting);
+    }
+
+    int[] matches = new int[isNull(candidates) ? size : candidates.length];
+    int count = 0;
+    if (isNull(candidates)) {
+      for (int position = 0; position < size; position++) {
+        if (matcher.matches(texts[position])) {
+          matches[count++] = position;
+        }
+      }
+    } else {
+      for (int position : candidates) {
+        if (matcher.matches(texts[position])) {
+          matches[count++] = position;
+        }
+      }
+    }
+    return Arrays.copyOf(matches, count);
+  }
+
+  private int[] matchEquality(Operator operator, List<String> values) {
+    if (!Operator.like.equals(operator) && !Operator.isEqualTo.equals(operator)) {
+      return null;
+    }
+    int[] matches = new int[0];
+    for (String value : new HashSet<>(values)) {
+      int[] bucket = buckets.get(value);
+      if (nonNull(bucket)) {
+        matches = union(matches, bucket);
+      }
+    }
+    return matches;
+  }
+
+  private int[] matchRange(Operator operator, List<String> values) {
+    double[] bounds = new double[values.size()];
+    for (int i = 0; i < values.size(); i++) {
+      Double bound = toNumber(values.get(i));
+      if (isNull(bound)) {
+        return null;
+      }
+      bounds[i] = bound;
+    }
+    int from;
+    int to;
+    if ((Operator.like.equals(operator) || Operator.isEqualTo.equals(operator))
+        && bounds.length == 1) {
+      from = lowerBound(bounds[0]);
+      to = upperBound(bounds[0]);
+    } else if (Operator.lessThan.equals(operator) && bounds.length == 1) {
+      from = 0;
+      to = lowerBound(bounds[0]);
+    } else if (Operator.lessThanOrEquals.equals(operator) && bounds.length == 1) {
+      from = 0;
+      to = upperBound(bounds[0]);
+    } else if (Operator.greaterThan.equals(operator) && bounds.length == 1) {
+      from = upperBound(bounds[0]);
+      to = sortedValues.length;
+    } else if (Operator.greaterThanOrEquals.equals(operator) && bounds.length == 1) {
+      from = lowerBound(bounds[0]);
+      to = sortedValues.length;
+    } else if (Operator.between.equals(operator) && bounds.length == 2) {
+      from = lowerBound(Math.min(bounds[0], bounds[1]));
+      to = upperBound(Math.max(bounds[0], bounds[1]));
+    } else {
+      return null;
+    }
+    if (from >= to) {
+      return new int[0];
+    }
+    int[] matches = Arrays.copyOfRange(sortedPositions, from, to);
+    Arrays.sort(matches);
+    return matches;
+  }
+
+  /** Finds the first index in the sorted values whose value is not less than the given value. */
+  private int lowerBound(double value) {
+    int low = 0;
+    int high = sortedValues.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedValues[middle] < value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  /** Finds the first index in the sorted values whose value is greater than the given value. */
+  private int upperBound(double value) {
+    int low = 0;
+    int high = sortedValues.length;
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      if (sortedValues[middle] <= value) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static Double toNumber(Object value) {
+    if (value instanceof Number) {
+      return ((Number) value).doubleValue();
+    }
+    if (value instanceof Date) {
+      return (double) ((Date) value).getTime();
+    }
+    if (nonNull(value)) {
+      try {
+        return Double.parseDouble(String.valueOf(value).trim());
+      } catch (NumberFormatException e) {
+        return null;
+      }
+    }
+    return null;
+  }
+
+  private static Map<String, int[]> toArrays(Map<String, List<Integer>> postings) {
+    Map<String, int[]> result = new HashMap<>();
+    postings.forEach(
+        (key, positions) ->
+            result.put(key, positions.stream().mapToInt(Integer::intValue).toArray()));
+    return result;
+  }
+
+  /**
+   * Intersects two position lists sorted in ascending order.
+   *
+   * @param first The first positions list.
+   * @param second The second positions list.
+   * @return The positions present in both lists, in ascending order.
+   */
+  public static int[] intersect(int[] first, int[] second) {
+    int[] result = new int[Math.min(first.length, second.length)];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < first.length && j < second.length) {
+      if (first[i] < second[j]) {
+        i++;
+      } else if (first[i] > second[j]) {
+        j++;
+      } else {
+        result[count++] = first[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  private static int[] union(int[] first, int[] second) {
+    int[] result = new int[first.length + second.length];
+    int i = 0;
+    int j = 0;
+    int count = 0;
+    while (i < first.length || j < second.length) {
+      if (j >= second.length || (i < first.length && first[i] < second[j])) {
+        result[count++] = first[i++];
+      } else if (i >= first.length || second[j] < first[i]) {
+        result[count++] = second[j++];
+      } else {
+        result[count++] = first[i];
+        i++;
+        j++;
+      }
+    }
+    return Arrays.copyOf(result, count);
+  }
+
+  private interface TextMatcher {
+    boolean matches(String text);
+  }
+}
@@ -16,6 +16,7 @@
 
 package org.dominokit.domino.ui.datatable.store;
 
+import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
@@ -32,6 +33,10 @@ public class DataChangedEvent<T> {
   private final int totalCount;
   private final Optional<SortDirection> sortDir;
   private final Optional<String> sortColumn;
+  private final boolean delta;
+  private final List<IndexRange> removedRanges;
+  private final List<IndexRange> insertedRanges;
+  private final List<IndexRange> updatedRanges;
 
   /**
    * Constructs a new {@code DataChangedEvent} with the provided data and total count.
@@ -45,6 +50,10 @@ public class DataChangedEvent<T> {
     this.append = false;
     this.sortDir = Optional.empty();
     this.sortColumn = Optional.empty();
+    this.delta = false;
+    this.removedRanges = Collections.emptyList();
+    this.insertedRanges = Collections.emptyList();
+    this.updatedRanges = Collections.emptyList();
   }
 
   /**
@@ -63,6 +72,10 @@ public class DataChangedEvent<T> {
     this.append = false;
     this.sortDir = Optional.of(sortDirection);
     this.sortColumn = Optional.of(sortColumn);
+    this.delta = false;
+    this.removedRanges = Collections.emptyList();
+    this.insertedRanges = Collections.emptyList();
+    this.updatedRanges = Collections.emptyList();
   }
 
   /**
@@ -79,6 +92,10 @@ public class DataChangedEvent<T> {
     this.totalCount = totalCount;
     this.sortDir = Optional.empty();
     this.sortColumn = Optional.empty();
+    this.delta = false;
+    this.removedRanges = Collections.emptyList();
+    this.insertedRanges = Collections.emptyList();
+    this.updatedRanges = Collections.emptyList();
   }
 
   /**
@@ -103,6 +120,43 @@ public class DataChangedEvent<T> {
     this.totalCount = totalCount;
     this.sortDir = Optional.of(sortDirection);
     this.sortColumn = Optional.of(sortColumn);
+    this.delta = false;
+    this.removedRanges = Collections.emptyList();
+    this.insertedRanges = Collections.emptyList();
+    this.updatedRanges = Collections.emptyList();
+  }
+
+  /**
+   * Constructs a new delta {@code DataChangedEvent}. The provided data is the complete new data,
+   * or the records of the current page when the data is paged, while the ranges describe how it
+   * differs from the previously emitted data, so that listeners can patch only the affected
+   * records instead of redrawing all of them.
+   *
+   * <p>Removed ranges refer to positions in the previously emitted data and should be applied
+   * first, inserted and updated ranges refer to positions in the new data. The new data may be a
+   * read only view of the store records, listeners that keep it should copy it.
+   *
+   * @param newData The complete list of new data records.
+   * @param totalCount The total count of records.
+   * @param removedRanges The ranges of removed records.
+   * @param insertedRanges The ranges of inserted records.
+   * @param updatedRanges The ranges of updated records.
+   */
+  public DataChangedEvent(
+      List<T> newData,
+      int totalCount,
+      List<IndexRange> removedRanges,
+      List<IndexRange> insertedRanges,
+      List<IndexRange> updatedRanges) {
+    this.newData = newData;
+    this.append = false;
+    this.totalCount = totalCount;
+    this.sortDir = Optional.empty();
+    this.sortColumn = Optional.empty();
+    this.delta = true;
+    this.removedRanges = removedRanges;
+    this.insertedRanges = insertedRanges;
+    this.updatedRanges = updatedRanges;
   }
 
   /**
@@ -149,4 +203,40 @@ public class DataChangedEvent<T> {
   public Optional<String> getSortColumn() {
     return sortColumn;
   }
+
+  /**
+   * Checks if this event describes the change as inserted, removed and updated ranges.
+   *
+   * @return {@code true} if this is a delta event; {@code false} otherwise.
+   */
+  public boolean isDelta() {
+    return delta;
+  }
+
+  /**
+   * Gets the ranges of removed records, positions refer to the previously emitted data.
+   *
+   * @return A list of removed ranges, empty if this is not a delta event.
+   */
+  public List<IndexRange> getRemovedRanges() {
+    return removedRanges;
+  }
+
+  /**
+   * Gets the ranges of inserted records, positions refer to the new data.
+   *
+   * @return A list of inserted ranges, empty if this is not a delta event.
+   */
+  public List<IndexRange> getInsertedRanges() {
+    return insertedRanges;
+  }
+
+  /**
+   * Gets the ranges of updated records, positions refer to the new data.
+   *
+   * @return A list of updated ranges, empty if this is not a delta event.
+   */
+  public List<IndexRange> getUpdatedRanges() {
+    return updatedRanges;
+  }
 }
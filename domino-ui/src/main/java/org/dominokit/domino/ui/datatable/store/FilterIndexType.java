@@ -0,0 +1,47 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code FilterIndexType} enum defines how a {@link ColumnValueIndex} answers the header filters
+ * of a column.
+ *
+ * @see org.dominokit.domino.ui.datatable.ColumnConfig#setFilterIndex(FilterIndexType,
+ *     java.util.function.Function)
+ */
+public enum FilterIndexType {
+  /**
+   * Case-insensitive text matching using a trigram index. It answers {@code like} and {@code
+   * contains} filters by substring, {@code startsWith} filters by prefix and {@code endsWith}
+   * filters by suffix.
+   */
+  TEXT,
+
+  /**
+   * Exact matching of the value string form using hash buckets, suitable for enum, boolean and
+   * select filters. It answers {@code like} and {@code equals} filters, a filter with multiple
+   * values matches any of them.
+   */
+  EQUALITY,
+
+  /**
+   * Numeric matching using the values sorted in ascending order, suitable for number, date and time
+   * filters where dates are compared by their time in milliseconds. It answers {@code like}, {@code
+   * equals}, {@code lessThan}, {@code lessThanOrEquals}, {@code greaterThan}, {@code
+   * greaterThanOrEquals} and {@code between} filters.
+   */
+  RANGE
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.Map;
+
+/**
+ * The {@code HasAggregates} interface is implemented by data stores that maintain column aggregates
+ * over their filtered records.
+ *
+ * @see Aggregator
+ */
+public interface HasAggregates {
+
+  /**
+   * Gets the current aggregate values of the aggregated columns.
+   *
+   * @return The aggregate values mapped by the column names.
+   */
+  Map<String, Object> getAggregates();
+
+  /**
+   * Registers a listener notified when the aggregates may have changed, it is called after the
+   * store emits the data change that changed them and when the aggregated columns change.
+   *
+   * @param listener The aggregates listener.
+   */
+  void addAggregatesListener(AggregatesListener listener);
+
+  /**
+   * Removes a registered aggregates listener.
+   *
+   * @param listener The aggregates listener to remove.
+   */
+  void removeAggregatesListener(AggregatesListener listener);
+
+  /** A listener notified when the aggregates of a data store may have changed. */
+  @FunctionalInterface
+  interface AggregatesListener {
+
+    /** Called when the aggregates may have changed, read them with {@link #getAggregates()}. */
+    void onAggregatesChanged();
+  }
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+/**
+ * The {@code HasRecordGroups} interface is implemented by data stores that can group their records,
+ * the store emits the records ordered by group and omits the records of the collapsed groups.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public interface HasRecordGroups<T> {
+
+  /**
+   * Checks if the records are currently grouped.
+   *
+   * @return {@code true} if grouping is enabled, {@code false} otherwise.
+   */
+  boolean isGrouped();
+
+  /**
+   * Gets the groups of the filtered records in their display order.
+   *
+   * @return The record groups.
+   */
+  List<RecordGroup<T>> getGroups();
+
+  /**
+   * Gets the groups that have a header on the current page, which are the expanded groups with
+   * records on the page and the collapsed groups whose position falls within the page.
+   *
+   * @return The record groups of the current page in their display order.
+   */
+  List<RecordGroup<T>> getPageGroups();
+
+  /**
+   * Gets the group key of a record.
+   *
+   * @param record The record.
+   * @return The group key of the record.
+   */
+  String getGroupKey(T record);
+
+  /**
+   * Expands a collapsed group or collapses an expanded group, and emits the records again.
+   *
+   * @param groupKey The group key.
+   */
+  void toggleGroup(String groupKey);
+
+  /** Expands all the groups and emits the records again. */
+  void expandAllGroups();
+
+  /** Collapses all the groups and emits the records again. */
+  void collapseAllGroups();
+}
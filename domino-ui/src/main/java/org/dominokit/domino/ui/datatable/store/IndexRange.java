@@ -0,0 +1,75 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code IndexRange} class represents a contiguous range of records positions, it is used to
+ * describe the records that were inserted, removed or updated in a {@link DataChangedEvent}.
+ */
+public class IndexRange {
+  private final int fromIndex;
+  private final int count;
+
+  /**
+   * Constructs a new range starting at the specified index.
+   *
+   * @param fromIndex The first index in the range.
+   * @param count The number of positions in the range.
+   */
+  public IndexRange(int fromIndex, int count) {
+    this.fromIndex = fromIndex;
+    this.count = count;
+  }
+
+  /**
+   * Creates a new range starting at the specified index.
+   *
+   * @param fromIndex The first index in the range.
+   * @param count The number of positions in the range.
+   * @return A new {@code IndexRange} instance.
+   */
+  public static IndexRange of(int fromIndex, int count) {
+    return new IndexRange(fromIndex, count);
+  }
+
+  /**
+   * Gets the first index in the range.
+   *
+   * @return The first index.
+   */
+  public int getFromIndex() {
+    return fromIndex;
+  }
+
+  /**
+   * Gets the number of positions in the range.
+   *
+   * @return The range size.
+   */
+  public int getCount() {
+    return count;
+  }
+
+  /**
+   * Gets the index right after the last index in the range.
+   *
+   * @return The exclusive end index.
+   */
+  public int getToIndex() {
+    return fromIndex + count;
+  }
+}
@@ -0,0 +1,246 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * The {@code KeyedRecordIndex} keeps a key to position index for a list of records, so that
+ * records can be located in constant time instead of scanning the list with {@code indexOf}.
+ *
+ * <p>The index is bound to a list instance and is rebuilt lazily whenever it is invalidated, the
+ * indexed list instance changes or the list size no longer matches the index. Positions returned
+ * from lookups are always verified against the list, a stale entry triggers a rebuild.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public class KeyedRecordIndex<T> {
+
+  private final RecordKeyProvider<T> keyProvider;
+  private final Map<Object, Integer> positions = new HashMap<>();
+  private List<T> indexedList;
+  private boolean valid = false;
+
+  /**
+   * Creates a new index that uses the provided key provider to extract records keys.
+   *
+   * @param keyProvider The records key provider.
+   */
+  public KeyedRecordIndex(RecordKeyProvider<T> keyProvider) {
+    this.keyProvider = keyProvider;
+  }
+
+  /**
+   * Gets the records key provider used by this index.
+   *
+   * @return The records key provider.
+   */
+  public RecordKeyProvider<T> getKeyProvider() {
+    return keyProvider;
+  }
+
+  /**
+   * Extracts the key of the provided record.
+   *
+   * @param record The record.
+   * @return The record key.
+   */
+  public Object keyOf(T record) {
+    return keyProvider.getKey(record);
+  }
+
+  /**
+   * Finds the position of the record that has the same key as the provided record.
+   *
+   * @param list The indexed list.
+   * @param record The record to look for.
+   * @return The position of the record in the list, or -1 if not found.
+   */
+  public int indexOf(List<T> list, T record) {
+    if (isNull(record)) {
+      return -1;
+    }
+    return indexOfKey(list, keyOf(record));
+  }
+
+  /**
+   * Finds the position of the record that has the provided key.
+   *
+   * @param list The indexed list.
+   * @param key The record key to look for.
+   * @return The position of the record in the list, or -1 if not found.
+   */
+  public int indexOfKey(List<T> list, Object key) {
+    ensureIndexed(list);
+    Integer position = positions.get(key);
+    if (isNull(position)) {
+      return -1;
+    }
+    if (position < list.size() && Objects.equals(key, keyOf(list.get(position)))) {
+      return position;
+    }
+    rebuild(list);
+    position = positions.get(key);
+    return isNull(position) ? -1 : position;
+  }
+
+  /**
+   * Checks if the list contains a record with the same key as the provided record.
+   *
+   * @param list The indexed list.
+   * @param record The record to look for.
+   * @return {@code true} if found, {@code false} otherwise.
+   */
+  public boolean contains(List<T> list, T record) {
+    return indexOf(list, record) > -1;
+  }
+
+  /**
+   * Notifies the index that the record at the specified position was replaced.
+   *
+   * @param list The indexed list.
+   * @param index The position of the replaced record.
+   * @param oldRecord The record that was replaced.
+   * @param newRecord The new record at the position.
+   */
+  public void onSet(List<T> list, int index, T oldRecord, T newRecord) {
+    if (!isIndexed(list)) {
+      return;
+    }
+    Object oldKey = keyOf(oldRecord);
+    Object newKey = keyOf(newRecord);
+    if (!Objects.equals(oldKey, newKey)) {
+      positions.remove(oldKey);
+    }
+    positions.put(newKey, index);
+  }
+
+  /**
+   * Notifies the index that a record was removed from the specified position, positions of the
+   * records after the removed one are shifted.
+   *
+   * @param list The indexed list.
+   * @param index The position the record was removed from.
+   * @param removed The removed record.
+   */
+  public void onRemoved(List<T> list, int index, T removed) {
+    if (!isIndexed(list)) {
+      return;
+    }
+    positions.remove(keyOf(removed));
+    reindexFrom(list, index);
+  }
+
+  /**
+   * Notifies the index that records were removed, and possibly others inserted, starting from the
+   * specified position, positions of the records from that position to the end of the list are
+   * refreshed.
+   *
+   * @param list The indexed list.
+   * @param fromIndex The first changed position.
+   * @param removed The removed records.
+   */
+  public void onRemoved(List<T> list, int fromIndex, Collection<T> removed) {
+    if (!isIndexed(list)) {
+      return;
+    }
+    removed.forEach(record -> positions.remove(keyOf(record)));
+    reindexFrom(list, fromIndex);
+  }
+
+  /**
+   * Notifies the index that records were inserted or moved starting from the specified position,
+   * positions of the records from that position to the end of the list are refreshed.
+   *
+   * @param list The indexed list.
+   * @param fromIndex The first changed position.
+   */
+  public void onShifted(List<T> list, int fromIndex) {
+    if (!isIndexed(list)) {
+      return;
+    }
+    reindexFrom(list, fromIndex);
+  }
+
+  /**
+   * Notifies the index that records were moved within the specified range, positions of the
+   * records inside the range are refreshed while positions outside of it are kept.
+   *
+   * @param list The indexed list.
+   * @param fromIndex The first changed position.
+   * @param toIndex The last changed position, inclusive.
+   */
+  public void onMoved(List<T> list, int fromIndex, int toIndex) {
+    if (!isIndexed(list)) {
+      return;
+    }
+    for (int i = Math.max(0, fromIndex); i <= toIndex && i < list.size(); i++) {
+      positions.put(keyOf(list.get(i)), i);
+    }
+  }
+
+  /**
+   * Rebuilds the index for the provided list right away instead of on the next lookup, this is
+   * used after the list was reordered as a whole, for example after sorting.
+   *
+   * @param list The list to index.
+   */
+  public void reindex(List<T> list) {
+    rebuild(list);
+  }
+
+  /** Marks the index as invalid, it will be rebuilt on the next lookup. */
+  public void invalidate() {
+    this.valid = false;
+    this.indexedList = null;
+    this.positions.clear();
+  }
+
+  private boolean isIndexed(List<T> list) {
+    return valid && indexedList == list;
+  }
+
+  private void ensureIndexed(List<T> list) {
+    if (!valid || indexedList != list || positions.size() != list.size()) {
+      rebuild(list);
+    }
+  }
+
+  private void rebuild(List<T> list) {
+    positions.clear();
+    for (int i = 0; i < list.size(); i++) {
+      positions.put(keyOf(list.get(i)), i);
+    }
+    this.indexedList = list;
+    this.valid = true;
+  }
+
+  private void reindexFrom(List<T> list, int fromIndex) {
+    for (int i = Math.max(0, fromIndex); i < list.size(); i++) {
+      positions.put(keyOf(list.get(i)), i);
+    }
+    if (positions.size() != list.size()) {
+      invalidate();
+    }
+  }
+}
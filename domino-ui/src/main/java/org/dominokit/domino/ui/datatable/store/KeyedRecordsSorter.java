@@ -0,0 +1,59 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.Comparator;
+import java.util.function.Function;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+/**
+ * A {@link RecordsSorter} that sorts records by a key extracted from each record. Stores that
+ * support it extract the key of each record only once per sort instead of on every comparison,
+ * which pays off when the key is expensive to extract, e.g. when the column value needs to be
+ * parsed or formatted.
+ *
+ * <p>Records with a {@code null} key are placed first in ascending order and last in descending
+ * order.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface KeyedRecordsSorter<T> extends RecordsSorter<T> {
+
+  /**
+   * Provides the function that extracts the sort key of a record for the specified field.
+   *
+   * @param sortBy The name of the field by which the records should be sorted.
+   * @return A function that extracts a comparable sort key from a record.
+   */
+  Function<? super T, ? extends Comparable<?>> getSortKey(String sortBy);
+
+  /**
+   * Provides a comparator that compares records by their extracted sort keys, this is used when the
+   * records are not sorted by a store that supports extracting the keys once per sort.
+   *
+   * @param sortBy The name of the field by which the records should be sorted.
+   * @param sortDirection The sorting direction (ascending or descending).
+   * @return A comparator for sorting records.
+   */
+  @Override
+  default Comparator<T> onSortChange(String sortBy, SortDirection sortDirection) {
+    Function<? super T, ? extends Comparable<?>> sortKey = getSortKey(sortBy);
+    Comparator<T> comparator =
+        (first, second) -> KeyedSort.compareKeys(sortKey.apply(first), sortKey.apply(second));
+    return SortDirection.DESC.equals(sortDirection) ? comparator.reversed() : comparator;
+  }
+}
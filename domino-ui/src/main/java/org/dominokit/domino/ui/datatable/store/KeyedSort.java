@@ -0,0 +1,88 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+/**
+ * Sorts records using a {@link KeyedRecordsSorter} by extracting the sort key of each record once,
+ * sorting the keyed entries and writing the records back in their sorted order.
+ */
+final class KeyedSort {
+
+  private KeyedSort() {}
+
+  /**
+   * Sorts the records list in place, the sort is stable.
+   *
+   * @param records The records to sort.
+   * @param sorter The sorter that provides the sort keys.
+   * @param sortBy The name of the field by which the records should be sorted.
+   * @param sortDirection The sorting direction.
+   * @param <T> The type of the records.
+   */
+  static <T> void sort(
+      List<T> records, KeyedRecordsSorter<T> sorter, String sortBy, SortDirection sortDirection) {
+    Function<? super T, ? extends Comparable<?>> sortKey = sorter.getSortKey(sortBy);
+    List<KeyedRecord<T>> entries = new ArrayList<>(records.size());
+    for (T record : records) {
+      entries.add(new KeyedRecord<>(sortKey.apply(record), record));
+    }
+    Comparator<KeyedRecord<T>> comparator = (first, second) -> compareKeys(first.key, second.key);
+    entries.sort(SortDirection.DESC.equals(sortDirection) ? comparator.reversed() : comparator);
+    for (int i = 0; i < entries.size(); i++) {
+      records.set(i, entries.get(i).record);
+    }
+  }
+
+  /**
+   * Compares two sort keys, {@code null} keys are considered smaller than any other key.
+   *
+   * @param first The first key.
+   * @param second The second key.
+   * @return A negative integer, zero, or a positive integer as the first key is less than, equal
+   *     to, or greater than the second key.
+   */
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  static int compareKeys(Comparable first, Comparable second) {
+    if (first == second) {
+      return 0;
+    }
+    if (isNull(first)) {
+      return -1;
+    }
+    if (isNull(second)) {
+      return 1;
+    }
+    return first.compareTo(second);
+  }
+
+  private static final class KeyedRecord<T> {
+    private final Comparable<?> key;
+    private final T record;
+
+    private KeyedRecord(Comparable<?> key, T record) {
+      this.key = key;
+      this.record = record;
+    }
+  }
+}
@@ -16,6 +16,7 @@
 
 package org.dominokit.domino.ui.datatable.store;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static org.dominokit.domino.ui.datatable.events.RecordDraggedOutEvent.RECORD_DRAGGED_OUT;
 import static org.dominokit.domino.ui.datatable.events.RecordDroppedEvent.RECORD_DROPPED;
@@ -23,14 +24,29 @@ import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
 import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
 
+import elemental2.dom.DomGlobal;
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
+import org.dominokit.domino.ui.datatable.ColumnConfig;
 import org.dominokit.domino.ui.datatable.events.*;
+import org.dominokit.domino.ui.datatable.model.Category;
+import org.dominokit.domino.ui.datatable.model.Filter;
 import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
 import org.dominokit.domino.ui.pagination.HasPagination;
+import org.gwtproject.timer.client.Timer;
 
 /**
  * The {@code LocalListDataStore} class represents a local data store for a DataTable, where data is
@@ -38,9 +54,10 @@ import org.dominokit.domino.ui.pagination.HasPagination;
  *
  * @param <T> The type of data representing the records in the data table.
  */
-public class LocalListDataStore<T> implements DataStore<T> {
+public class LocalListDataStore<T> implements DataStore<T>, HasAggregates, HasRecordGroups<T> {
 
   private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+  private final List<AggregatesListener> aggregatesListeners = new ArrayList<>();
 
   protected final List<T> original;
   protected List<T> filtered;
@@ -54,15 +71,40 @@ public class LocalListDataStore<T> implements DataStore<T> {
   private String autoSortBy = "*";
   private SortDirection autoSortDirection = SortDirection.ASC;
   private boolean autoSortApplied = false;
-
-  private DragDropRecordActions<T> dragDropRecordActions =
+  private KeyedRecordIndex<T> originalIndex;
+  private KeyedRecordIndex<T> filteredIndex;
+  private boolean deltaUpdates = false;
+  private Comparator<T> cachedComparator;
+  private String cachedComparatorSortBy;
+  private SortDirection cachedComparatorDirection;
+  private List<T> sortedRecords;
+  private String sortedBy;
+  private SortDirection sortedDirection;
+  private boolean incrementalSearch = false;
+  private List<Filter> lastSearchFilters;
+  private final Map<String, ColumnValueIndex<T>> columnIndexes = new HashMap<>();
+  private final ColumnAggregates<T> columnAggregates = new ColumnAggregates<>();
+  private Function<? super T, String> groupKeyFunction;
+  private Comparator<RecordGroup<T>> groupComparator;
+  private boolean groupsCollapsedByDefault = false;
+  private final Set<String> toggledGroups = new HashSet<>();
+  private List<RecordGroup<T>> groups;
+  private List<T> groupedRecords;
+  private final Map<Object, T> streamedUpdates = new LinkedHashMap<>();
+  private final StreamingUpdateMetrics streamingMetrics = new StreamingUpdateMetrics();
+  private int streamFlushInterval = 0;
+  private boolean streamFlushScheduled = false;
+  private double streamFlushFrame;
+  private Timer streamFlushTimer;
+
+  private final DragDropRecordActions<T> defaultDragDropRecordActions =
       new DragDropRecordActions<T>() {
         @Override
         public void onDropped(T droppedRecord, T target) {
-          int movedIndex = filtered.indexOf(droppedRecord);
+          int movedIndex = indexOfFiltered(droppedRecord);
           int targetIndex = filtered.size();
           if (nonNull(target)) {
-            targetIndex = filtered.indexOf(target);
+            targetIndex = indexOfFiltered(target);
           }
           if (movedIndex > -1) {
             filtered.remove(movedIndex);
@@ -70,17 +112,31 @@ public class LocalListDataStore<T> implements DataStore<T> {
           if (targetIndex > -1) {
             filtered.add(targetIndex, droppedRecord);
           }
+          if (movedIndex < 0 && targetIndex > -1) {
+            columnAggregates.onAdded(droppedRecord);
+          } else if (movedIndex > -1 && targetIndex < 0) {
+            columnAggregates.onRemoved(droppedRecord);
+          }
+          if (nonNull(filteredIndex)) {
+            filteredIndex.onShifted(filtered, minIndex(movedIndex, targetIndex));
+          }
         }
 
         @Override
         public void onDraggedOut(T draggedOutRecord) {
-          int removedIndex = filtered.indexOf(draggedOutRecord);
+          int removedIndex = indexOfFiltered(draggedOutRecord);
           if (removedIndex > -1) {
-            filtered.remove(removedIndex);
+            T removed = filtered.remove(removedIndex);
+            columnAggregates.onRemoved(removed);
+            if (nonNull(filteredIndex)) {
+              filteredIndex.onRemoved(filtered, removedIndex, removed);
+            }
           }
         }
       };
 
+  private DragDropRecordActions<T> dragDropRecordActions = defaultDragDropRecordActions;
+
   /**
    * Constructs a new {@code LocalListDataStore} with an empty original data list and filtered data
    * list.
@@ -109,11 +165,72 @@ public class LocalListDataStore<T> implements DataStore<T> {
   public void setData(List<T> data) {
     this.original.clear();
     this.original.addAll(data);
+    invalidateColumnIndexes();
     this.filtered.clear();
     this.filtered.addAll(original);
+    invalidateIndexes();
+    invalidateAggregates();
+    invalidateSortedOrder();
     load();
   }
 
+  /**
+   * Sets a key provider used to identify records in this store. When set, the store keeps a key to
+   * position index for both the original and the filtered records, so that updating, removing and
+   * dragging records locate the records in constant time instead of scanning the lists. Records
+   * are then matched by their keys instead of {@code equals}.
+   *
+   * <p>The keys must be unique across the store records. Pass {@code null} to disable indexing.
+   *
+   * @param recordKeyProvider The records key provider.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setRecordKeyProvider(RecordKeyProvider<T> recordKeyProvider) {
+    if (nonNull(recordKeyProvider)) {
+      this.originalIndex = new KeyedRecordIndex<>(recordKeyProvider);
+      this.filteredIndex = new KeyedRecordIndex<>(recordKeyProvider);
+    } else {
+      this.originalIndex = null;
+      this.filteredIndex = null;
+    }
+    return this;
+  }
+
+  /**
+   * Sets whether adding, inserting, removing and updating records should emit delta {@link
+   * DataChangedEvent}s describing only the affected ranges instead of re-emitting all the records.
+   * With pagination the ranges are relative to the current page, and a change outside of the page
+   * is emitted as a delta without changed rows. While a sort is applied, the changed records are
+   * moved to their sorted positions. A full update is emitted instead while the records are
+   * grouped, when too many records changed to keep the sorted order, or when the change shifts all
+   * the rows of the current page.
+   *
+   * @param deltaUpdates {@code true} to enable delta updates, {@code false} otherwise.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setDeltaUpdates(boolean deltaUpdates) {
+    this.deltaUpdates = deltaUpdates;
+    return this;
+  }
+
+  /**
+   * Checks if delta updates are enabled for this data store.
+   *
+   * @return {@code true} if delta updates are enabled, {@code false} otherwise.
+   */
+  public boolean isDeltaUpdates() {
+    return deltaUpdates;
+  }
+
+  /**
+   * Gets the key provider used to identify records in this store.
+   *
+   * @return The records key provider, or {@code null} if records are not indexed.
+   */
+  public RecordKeyProvider<T> getRecordKeyProvider() {
+    return nonNull(originalIndex) ? originalIndex.getKeyProvider() : null;
+  }
+
   /**
    * Gets the search filter used for filtering records.
    *
@@ -131,6 +248,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public LocalListDataStore<T> setSearchFilter(SearchFilter<T> searchFilter) {
     this.searchFilter = searchFilter;
+    invalidateSearchRefinement();
     return this;
   }
 
@@ -200,6 +318,10 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * Sets the records sorter used for sorting records. Also sets the sorting function to the default
    * list sorting.
    *
+   * <p>When the sorter is a {@link KeyedRecordsSorter} the sort key of each record is extracted
+   * once per sort and the records are sorted by their keys, the sort function is not used in this
+   * case.
+   *
    * @param recordsSorter The records sorter.
    * @return This data store instance.
    */
@@ -219,6 +341,8 @@ public class LocalListDataStore<T> implements DataStore<T> {
       RecordsSorter<T> recordsSorter, SortFunction<T> sortFunction) {
     this.recordsSorter = recordsSorter;
     this.sortFunction = sortFunction;
+    this.cachedComparator = null;
+    invalidateSortedOrder();
     return this;
   }
 
@@ -240,7 +364,8 @@ public class LocalListDataStore<T> implements DataStore<T> {
   /** Updates the pagination based on the total number of original records. */
   private void updatePagination() {
     if (nonNull(getPagination()) && nonNull(original)) {
-      this.getPagination().updatePagesByTotalCount(this.original.size());
+      this.getPagination()
+          .updatePagesByTotalCount(isGrouped() ? getVisibleRecords().size() : this.original.size());
     }
   }
 
@@ -290,6 +415,23 @@ public class LocalListDataStore<T> implements DataStore<T> {
     }
   }
 
+  /**
+   * Declares the table events handled by this store, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this,
+        LocalListDataStore.class,
+        SEARCH_EVENT,
+        SORT_EVENT,
+        PAGINATION_EVENT,
+        RECORD_DROPPED,
+        RECORD_DRAGGED_OUT);
+  }
+
   /**
    * Handles the event when a record is dragged out of the data store.
    *
@@ -299,6 +441,9 @@ public class LocalListDataStore<T> implements DataStore<T> {
     T rowToRemove = event.getDraggedOutRecord();
 
     dragDropRecordActions.onDraggedOut(rowToRemove);
+    invalidateCustomDragDropIndex();
+    invalidateSortedOrder();
+    invalidateSearchRefinement();
 
     fireUpdate(true);
   }
@@ -313,6 +458,9 @@ public class LocalListDataStore<T> implements DataStore<T> {
     T targetRow = event.getTargetRecord();
 
     dragDropRecordActions.onDropped(movedRow, targetRow);
+    invalidateCustomDragDropIndex();
+    invalidateSortedOrder();
+    invalidateSearchRefinement();
 
     fireUpdate(true);
   }
@@ -324,18 +472,275 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   public void onSearchChanged(SearchEvent event) {
     if (nonNull(getSearchFilter())) {
+      boolean refinement = isSearchRefinement(event);
+      boolean sorted = sortedRecords == filtered;
       setLastSearch(event);
-      filtered =
-          original.stream()
-              .filter(record -> getSearchFilter().filterRecord(event, record))
-              .collect(Collectors.toList());
+      filtered = filterRecords(event, refinement ? filtered : original);
+      updateSearchRefinement(event);
+      invalidateFilteredIndex();
+      invalidateAggregates();
+      if (refinement && sorted) {
+        sortedRecords = filtered;
+      }
       if (nonNull(getLastSort())) {
-        sort(getLastSort());
+        sortFiltered(
+            getLastSort().getColumnConfig().getSortKey(), getLastSort().getSortDirection());
       }
       loadFirstPage();
     }
   }
 
+  /**
+   * Filters the records using the search filter, when all the records are filtered and some of the
+   * header filters of the event are answered by column indexes the search filter is evaluated only
+   * on the records matched by the indexes and only with the remaining filters. The indexes cover
+   * all the records, so they are not used when refining the currently filtered records.
+   *
+   * @param event The search event.
+   * @param records The records to filter, all the records or the currently filtered records.
+   * @return The filtered records, in the order of the filtered records.
+   */
+  private List<T> filterRecords(SearchEvent event, List<T> records) {
+    if (records == original && !columnIndexes.isEmpty()) {
+      List<Filter> remainingFilters = new ArrayList<>();
+      int[] positions = null;
+      for (Filter filter : event.getFilters()) {
+        ColumnValueIndex<T> index =
+            Category.HEADER_FILTER.equals(filter.getCategory())
+                ? columnIndexes.get(filter.getFieldName())
+                : null;
+        int[] matches = nonNull(index) ? index.match(original, filter) : null;
+        if (isNull(matches)) {
+          remainingFilters.add(filter);
+        } else {
+          positions = isNull(positions) ? matches : ColumnValueIndex.intersect(positions, matches);
+        }
+      }
+      if (nonNull(positions)) {
+        SearchEvent remainingEvent = new SearchEvent(remainingFilters);
+        List<T> result = new ArrayList<>();
+        for (int position : positions) {
+          T record = original.get(position);
+          if (remainingFilters.isEmpty()
+              || getSearchFilter().filterRecord(remainingEvent, record)) {
+            result.add(record);
+          }
+        }
+        return result;
+      }
+    }
+    return records.stream()
+        .filter(record -> getSearchFilter().filterRecord(event, record))
+        .collect(Collectors.toList());
+  }
+
+  /**
+   * Adds value indexes for the header filters of the columns that have a filter index set up with
+   * {@link ColumnConfig#setFilterIndex(FilterIndexType, Function)}, the header filters of these
+   * columns are then answered from the indexes instead of evaluating the search filter on every
+   * record. The indexes are built lazily on the first search that uses them and rebuilt after the
+   * records change.
+   *
+   * @param columns The columns to index, usually the table flatten columns.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   */
+  public LocalListDataStore<T> indexColumns(Collection<ColumnConfig<T>> columns) {
+    columns.stream()
+        .filter(column -> nonNull(column.getFilterIndexType()))
+        .filter(column -> nonNull(column.getFilterValueExtractor()))
+        .forEach(
+            column ->
+                indexColumn(
+                    column.getFilterKey(),
+                    column.getFilterIndexType(),
+                    column.getFilterValueExtractor()));
+    return this;
+  }
+
+  /**
+   * Adds a value index for the header filters of the specified filter key.
+   *
+   * @param filterKey The filter key, usually the column filter key.
+   * @param filterIndexType How the index matches the filter values.
+   * @param valueExtractor The function that extracts the indexed value from a record.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   */
+  public LocalListDataStore<T> indexColumn(
+      String filterKey, FilterIndexType filterIndexType, Function<? super T, ?> valueExtractor) {
+    columnIndexes.put(filterKey, new ColumnValueIndex<>(filterIndexType, valueExtractor));
+    return this;
+  }
+
+  /**
+   * Removes the value index of the specified filter key.
+   *
+   * @param filterKey The filter key.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   */
+  public LocalListDataStore<T> removeColumnIndex(String filterKey) {
+    columnIndexes.remove(filterKey);
+    return this;
+  }
+
+  /**
+   * Invalidates the column value indexes, they will be rebuilt on the next search that uses them.
+   * Subclasses that modify the original records directly should call this method.
+   */
+  protected void invalidateColumnIndexes() {
+    columnIndexes.values().forEach(ColumnValueIndex::invalidate);
+  }
+
+  /**
+   * Adds aggregates for the columns that have an aggregation set up with {@link
+   * ColumnConfig#setAggregation(Aggregator, Function)}. The aggregates are computed over all the
+   * filtered records, not only the current page, and are kept up to date as records are added,
+   * updated and removed. They are computed again from the filtered records after a search, after
+   * the data is set, and after a record is updated in place or removed from an aggregate that
+   * cannot remove values.
+   *
+   * @param columns The columns to aggregate, usually the table flatten columns.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   * @see #getAggregates()
+   */
+  public LocalListDataStore<T> aggregateColumns(Collection<ColumnConfig<T>> columns) {
+    columns.stream()
+        .filter(column -> nonNull(column.getAggregator()))
+        .filter(column -> nonNull(column.getAggregateValueExtractor()))
+        .forEach(
+            column ->
+                aggregateColumn(
+                    column.getName(), column.getAggregator(), column.getAggregateValueExtractor()));
+    return this;
+  }
+
+  /**
+   * Adds an aggregate for the specified column.
+   *
+   * @param columnName The column name.
+   * @param aggregator The aggregate to compute.
+   * @param valueExtractor The function that extracts the aggregated value from a record.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   */
+  public LocalListDataStore<T> aggregateColumn(
+      String columnName, Aggregator aggregator, Function<? super T, ?> valueExtractor) {
+    columnAggregates.put(columnName, valueExtractor, aggregator);
+    fireAggregatesChanged();
+    return this;
+  }
+
+  /**
+   * Removes the aggregate of the specified column.
+   *
+   * @param columnName The column name.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   */
+  public LocalListDataStore<T> removeColumnAggregate(String columnName) {
+    columnAggregates.remove(columnName);
+    fireAggregatesChanged();
+    return this;
+  }
+
+  /**
+   * Gets the current aggregates of the aggregated columns over the filtered records.
+   *
+   * @return The aggregate values mapped by the column names.
+   */
+  @Override
+  public Map<String, Object> getAggregates() {
+    return columnAggregates.getResults(filtered);
+  }
+
+  /**
+   * Invalidates the column aggregates, they will be computed again from the filtered records on
+   * the next read. Subclasses that modify the filtered records directly should call this method.
+   */
+  protected void invalidateAggregates() {
+    columnAggregates.invalidate();
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void addAggregatesListener(AggregatesListener listener) {
+    aggregatesListeners.add(listener);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void removeAggregatesListener(AggregatesListener listener) {
+    aggregatesListeners.remove(listener);
+  }
+
+  /**
+   * Notifies the aggregates listeners when the aggregates may have changed since the last
+   * notification, it is called after the data change that changed them is emitted.
+   */
+  private void fireAggregatesChanged() {
+    if (columnAggregates.takeChanged()) {
+      new ArrayList<>(aggregatesListeners).forEach(AggregatesListener::onAggregatesChanged);
+    }
+  }
+
+  /**
+   * Checks if the search event only narrows down the last applied search, in which case the search
+   * is applied to the currently filtered records instead of all the records. This is only done when
+   * incremental search is enabled, see {@link #setIncrementalSearch(boolean)}.
+   *
+   * @param event The new search event.
+   * @return {@code true} if the currently filtered records can be refined, {@code false} if all
+   *     the records should be filtered.
+   */
+  protected boolean isSearchRefinement(SearchEvent event) {
+    return isIncrementalSearch()
+        && nonNull(lastSearchFilters)
+        && SearchRefinement.isRefinement(lastSearchFilters, event.getFilters());
+  }
+
+  /**
+   * Remembers the filters of the applied search event so that a following search that only narrows
+   * them down can be applied as a refinement, see {@link #isSearchRefinement(SearchEvent)}.
+   *
+   * @param event The applied search event.
+   */
+  protected void updateSearchRefinement(SearchEvent event) {
+    this.lastSearchFilters = SearchRefinement.snapshot(event.getFilters());
+  }
+
+  /**
+   * Forgets the last applied search filters so that the next search filters all the records.
+   * Subclasses that modify the filtered records in a way that does not follow the last search
+   * should call this method.
+   */
+  protected void invalidateSearchRefinement() {
+    this.lastSearchFilters = null;
+  }
+
+  /**
+   * Checks if incremental search is enabled.
+   *
+   * @return {@code true} if incremental search is enabled, {@code false} otherwise.
+   */
+  public boolean isIncrementalSearch() {
+    return incrementalSearch;
+  }
+
+  /**
+   * Enables or disables incremental search. When enabled and a search only narrows down the last
+   * search, e.g. one more character is typed in the search box or a header filter is added, only
+   * the currently filtered records are filtered again instead of all the records. Any broadening
+   * of the search filters all the records.
+   *
+   * <p>This assumes the {@link SearchFilter} combines the filters with AND and that text filters
+   * match a substring, prefix or suffix of the record value, disable it for filters with different
+   * semantics.
+   *
+   * @param incrementalSearch {@code true} to enable incremental search, {@code false} otherwise.
+   * @return This {@code LocalListDataStore} instance for method chaining.
+   */
+  public LocalListDataStore<T> setIncrementalSearch(boolean incrementalSearch) {
+    this.incrementalSearch = incrementalSearch;
+    return this;
+  }
+
   /**
    * Handles the event when a sorting action is performed.
    *
@@ -391,11 +796,55 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param event The sorting event containing sort information.
    */
   public void sort(SortEvent<T> event) {
-    getSortFunction()
-        .sort(
-            filtered,
-            getRecordsSorter()
-                .onSortChange(event.getColumnConfig().getSortKey(), event.getSortDirection()));
+    invalidateSortedOrder();
+    sortFiltered(event.getColumnConfig().getSortKey(), event.getSortDirection());
+  }
+
+  /**
+   * Sorts the filtered records unless they are already sorted by the same field and direction, the
+   * sorted order is kept until the records change, so changing the page does not sort again. The
+   * filtered records index is rebuilt from the sorted positions so that lookups by key stay in
+   * constant time while a sort is applied.
+   *
+   * @param sortBy The name of the field by which the records should be sorted.
+   * @param sortDirection The sorting direction.
+   */
+  private void sortFiltered(String sortBy, SortDirection sortDirection) {
+    if (sortedRecords == filtered
+        && Objects.equals(sortedBy, sortBy)
+        && sortedDirection == sortDirection) {
+      return;
+    }
+    if (getRecordsSorter() instanceof KeyedRecordsSorter) {
+      KeyedSort.sort(filtered, (KeyedRecordsSorter<T>) getRecordsSorter(), sortBy, sortDirection);
+    } else {
+      getSortFunction().sort(filtered, getComparator(sortBy, sortDirection));
+    }
+    if (nonNull(filteredIndex)) {
+      filteredIndex.reindex(filtered);
+    }
+    this.sortedRecords = filtered;
+    this.sortedBy = sortBy;
+    this.sortedDirection = sortDirection;
+  }
+
+  private Comparator<T> getComparator(String sortBy, SortDirection sortDirection) {
+    if (isNull(cachedComparator)
+        || !Objects.equals(cachedComparatorSortBy, sortBy)
+        || cachedComparatorDirection != sortDirection) {
+      cachedComparator = getRecordsSorter().onSortChange(sortBy, sortDirection);
+      cachedComparatorSortBy = sortBy;
+      cachedComparatorDirection = sortDirection;
+    }
+    return cachedComparator;
+  }
+
+  /**
+   * Invalidates the cached sorted order of the filtered records, they will be sorted again on the
+   * next update. Subclasses that modify the filtered records in place should call this method.
+   */
+  protected void invalidateSortedOrder() {
+    this.sortedRecords = null;
   }
 
   /**
@@ -413,7 +862,8 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   protected void loadFirstPage() {
     if (nonNull(getPagination())) {
-      getPagination().updatePagesByTotalCount(filtered.size());
+      invalidateGroups();
+      getPagination().updatePagesByTotalCount(getVisibleRecords().size());
     }
     fireUpdate(true);
   }
@@ -428,7 +878,8 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
   /**
    * Initiates the data loading process. This method is typically called to initially load or reload
-   * the data. It triggers a data update.
+   * the data. It triggers a data update, the records are sorted again only if they changed or the
+   * sort changed since they were last sorted, see {@link #invalidateSortedOrder()}.
    */
   @Override
   public void load() {
@@ -492,54 +943,258 @@ public class LocalListDataStore<T> implements DataStore<T> {
 
   /**
    * Fires a data update event to all registered data change listeners. Optionally, applies sorting
-   * to the updated data.
+   * to the filtered records before taking the updated data, the sorting is skipped when the
+   * filtered records are still in the last sorted order.
    *
    * @param applySort {@code true} to apply sorting to the updated data, {@code false} to skip
    *     sorting.
    */
   private void fireUpdate(boolean applySort) {
-    List<T> updateRecords = getUpdateRecords();
     if (applySort) {
       if (nonNull(getLastSort()) && nonNull(getRecordsSorter())) {
-        updateRecords.sort(
-            getRecordsSorter()
-                .onSortChange(
-                    getLastSort().getColumnConfig().getSortKey(),
-                    getLastSort().getSortDirection()));
+        sortFiltered(
+            getLastSort().getColumnConfig().getSortKey(), getLastSort().getSortDirection());
       } else if (isAutoSort() && nonNull(getRecordsSorter())) {
-        updateRecords.sort(
-            getRecordsSorter().onSortChange(getAutoSortBy(), getAutoSortDirection()));
+        sortFiltered(getAutoSortBy(), getAutoSortDirection());
       }
     }
+    invalidateGroups();
+    List<T> updateRecords = getUpdateRecords();
+    int totalCount = getVisibleRecords().size();
     if (!isAutoSortApplied()) {
       setAutoSortApplied(true);
       listeners.forEach(
           dataChangeListener ->
               dataChangeListener.onDataChanged(
                   new DataChangedEvent<>(
-                      updateRecords, filtered.size(), getAutoSortDirection(), getAutoSortBy())));
+                      updateRecords, totalCount, getAutoSortDirection(), getAutoSortBy())));
     } else {
       listeners.forEach(
           dataChangeListener ->
-              dataChangeListener.onDataChanged(
-                  new DataChangedEvent<>(updateRecords, filtered.size())));
+              dataChangeListener.onDataChanged(new DataChangedEvent<>(updateRecords, totalCount)));
     }
+    fireAggregatesChanged();
   }
 
   /**
    * Retrieves the subset of records that need to be updated based on the current pagination
-   * settings. If pagination is disabled, it returns a copy of the entire filtered list.
+   * settings. If pagination is disabled, it returns a copy of the entire filtered list. When the
+   * records are grouped the records of the expanded groups are used instead of the filtered list.
    *
    * @return A list of records to be updated.
    */
   private List<T> getUpdateRecords() {
+    List<T> records = getVisibleRecords();
     if (nonNull(getPagination())) {
       int fromIndex = getPagination().getPageSize() * (getPagination().activePage() - 1);
-      int toIndex = Math.min(fromIndex + getPagination().getPageSize(), filtered.size());
-      return new ArrayList<>(filtered.subList(fromIndex, toIndex));
+      fromIndex = Math.max(0, Math.min(fromIndex, records.size()));
+      int toIndex = Math.min(fromIndex + getPagination().getPageSize(), records.size());
+      return new ArrayList<>(records.subList(fromIndex, toIndex));
     } else {
-      return new ArrayList<>(filtered);
+      return new ArrayList<>(records);
+    }
+  }
+
+  /**
+   * Groups the filtered records by the key returned by the specified function. The store then
+   * emits the records ordered by group, in the order of the first record of each group or the
+   * order defined by {@link #setGroupComparator(Comparator)}, and omits the records of the
+   * collapsed groups so that the table renders only their group header. Pagination pages over the
+   * emitted records, and delta updates are not emitted while the records are grouped.
+   *
+   * @param groupKeyFunction Returns the group key of a record, {@code null} to disable grouping.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setGrouping(Function<? super T, String> groupKeyFunction) {
+    this.groupKeyFunction = groupKeyFunction;
+    this.toggledGroups.clear();
+    invalidateGroups();
+    return this;
+  }
+
+  /**
+   * Sets the order of the groups, changing the order emits the records again without sorting
+   * them. Combined with a {@link
+   * org.dominokit.domino.ui.datatable.TableConfig#setRecordKeyProvider(RecordKeyProvider)} the
+   * table moves the existing rows instead of rendering them again.
+   *
+   * @param groupComparator The groups comparator, {@code null} to order the groups by their first
+   *     record.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setGroupComparator(Comparator<RecordGroup<T>> groupComparator) {
+    this.groupComparator = groupComparator;
+    reloadGroups();
+    return this;
+  }
+
+  /**
+   * Sets whether the groups are collapsed until they are expanded, this also resets the groups
+   * that were expanded or collapsed individually.
+   *
+   * @param groupsCollapsedByDefault {@code true} to collapse the groups by default.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setGroupsCollapsedByDefault(boolean groupsCollapsedByDefault) {
+    this.groupsCollapsedByDefault = groupsCollapsedByDefault;
+    this.toggledGroups.clear();
+    reloadGroups();
+    return this;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public boolean isGrouped() {
+    return nonNull(groupKeyFunction);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<RecordGroup<T>> getGroups() {
+    if (!isGrouped()) {
+      return Collections.emptyList();
     }
+    getVisibleRecords();
+    return Collections.unmodifiableList(groups);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public List<RecordGroup<T>> getPageGroups() {
+    List<RecordGroup<T>> allGroups = getGroups();
+    if (isNull(getPagination())) {
+      return allGroups;
+    }
+    int totalCount = getVisibleRecords().size();
+    int fromIndex = getPagination().getPageSize() * (getPagination().activePage() - 1);
+    int toIndex = Math.min(fromIndex + getPagination().getPageSize(), totalCount);
+    boolean lastPage = toIndex >= totalCount;
+    List<RecordGroup<T>> pageGroups = new ArrayList<>();
+    int position = 0;
+    for (RecordGroup<T> group : allGroups) {
+      if (group.isExpanded()) {
+        int end = position + group.getCount();
+        if (position < toIndex && end > fromIndex) {
+          pageGroups.add(group);
+        }
+        position = end;
+      } else if (position >= fromIndex && (position < toIndex || lastPage)) {
+        pageGroups.add(group);
+      }
+    }
+    return pageGroups;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public String getGroupKey(T record) {
+    return groupKeyFunction.apply(record);
+  }
+
+  /**
+   * Checks if the records of a group are emitted.
+   *
+   * @param groupKey The group key.
+   * @return {@code true} if the group is expanded, {@code false} otherwise.
+   */
+  public boolean isGroupExpanded(String groupKey) {
+    return toggledGroups.contains(groupKey) == groupsCollapsedByDefault;
+  }
+
+  /**
+   * Expands or collapses a group and emits the records again if its state changed.
+   *
+   * @param groupKey The group key.
+   * @param expanded {@code true} to expand the group, {@code false} to collapse it.
+   */
+  public void setGroupExpanded(String groupKey, boolean expanded) {
+    if (isGroupExpanded(groupKey) != expanded) {
+      if (!toggledGroups.remove(groupKey)) {
+        toggledGroups.add(groupKey);
+      }
+      reloadGroups();
+    }
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void toggleGroup(String groupKey) {
+    setGroupExpanded(groupKey, !isGroupExpanded(groupKey));
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void expandAllGroups() {
+    setGroupsCollapsedByDefault(false);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void collapseAllGroups() {
+    setGroupsCollapsedByDefault(true);
+  }
+
+  private void reloadGroups() {
+    if (isGrouped() && isAutoSortApplied()) {
+      invalidateGroups();
+      updatePaginationKeepingPage();
+      fireUpdate(false);
+    }
+  }
+
+  /**
+   * Updates the pagination to the number of emitted records before they are sliced, the active
+   * page is kept while it is still valid and the last page is activated otherwise.
+   */
+  private void updatePaginationKeepingPage() {
+    if (nonNull(getPagination())) {
+      int activePage = getPagination().activePage();
+      getPagination().updatePagesByTotalCount(getVisibleRecords().size());
+      int pagesCount = getPagination().getPagesCount();
+      if (activePage > 1 && pagesCount > 1) {
+        getPagination().gotoPage(Math.min(activePage, pagesCount), true);
+      }
+    }
+  }
+
+  /**
+   * Gets the records emitted to the table, which are the filtered records, or the records of the
+   * expanded groups when the records are grouped.
+   *
+   * @return The emitted records.
+   */
+  private List<T> getVisibleRecords() {
+    if (!isGrouped()) {
+      return filtered;
+    }
+    if (isNull(groupedRecords)) {
+      Map<String, List<T>> members = new LinkedHashMap<>();
+      for (T record : filtered) {
+        members
+            .computeIfAbsent(groupKeyFunction.apply(record), key -> new ArrayList<>())
+            .add(record);
+      }
+      List<RecordGroup<T>> builtGroups = new ArrayList<>();
+      members.forEach(
+          (key, records) ->
+              builtGroups.add(
+                  new RecordGroup<>(key, records, isGroupExpanded(key), columnAggregates.copy())));
+      if (nonNull(groupComparator)) {
+        builtGroups.sort(groupComparator);
+      }
+      List<T> visible = new ArrayList<>();
+      builtGroups.stream()
+          .filter(RecordGroup::isExpanded)
+          .forEach(group -> visible.addAll(group.getRecords()));
+      this.groups = builtGroups;
+      this.groupedRecords = visible;
+    }
+    return groupedRecords;
+  }
+
+  private void invalidateGroups() {
+    this.groups = null;
+    this.groupedRecords = null;
   }
 
   /**
@@ -548,9 +1203,13 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The record to be added.
    */
   public void addRecord(T record) {
-    original.add(record);
-    List<T> newData = new ArrayList<>(original);
-    setData(newData);
+    if (canFireDelta()) {
+      addRecords(Collections.singletonList(record));
+    } else {
+      original.add(record);
+      List<T> newData = new ArrayList<>(original);
+      setData(newData);
+    }
   }
 
   /**
@@ -561,9 +1220,57 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The record to be added.
    */
   public void insertRecord(int index, T record) {
-    original.add(index, record);
-    List<T> newData = new ArrayList<>(original);
-    setData(newData);
+    if (canFireDelta()) {
+      boolean added = !isSearchApplied() || getSearchFilter().filterRecord(getLastSearch(), record);
+      int filteredPosition = -1;
+      if (added) {
+        if (isSortedOrderKept()) {
+          filteredPosition = sortedPosition(record, true, getComparator(sortedBy, sortedDirection));
+        } else {
+          filteredPosition = filteredInsertPosition(index);
+          invalidateSortedOrder();
+        }
+      }
+      original.add(index, record);
+      invalidateColumnIndexes();
+      if (nonNull(originalIndex)) {
+        originalIndex.onShifted(original, index);
+      }
+      if (added) {
+        filtered.add(filteredPosition, record);
+        columnAggregates.onAdded(record);
+        if (nonNull(filteredIndex)) {
+          filteredIndex.onShifted(filtered, filteredPosition);
+        }
+      }
+      fireDelta(
+          Collections.emptyList(),
+          added ? Collections.singletonList(filteredPosition) : Collections.emptyList(),
+          Collections.emptyList());
+    } else {
+      original.add(index, record);
+      List<T> newData = new ArrayList<>(original);
+      setData(newData);
+    }
+  }
+
+  /**
+   * Finds the position in the filtered records of a record inserted at the specified index of the
+   * original records, which is right after the closest preceding original record that is filtered.
+   * The filtered records may be ordered differently from the original records, for example after
+   * records are dragged and dropped.
+   *
+   * @param index The insertion index in the original records.
+   * @return The insertion position in the filtered records.
+   */
+  private int filteredInsertPosition(int index) {
+    for (int i = index - 1; i >= 0; i--) {
+      int position = indexOfFiltered(original.get(i));
+      if (position > -1) {
+        return position + 1;
+      }
+    }
+    return 0;
   }
 
   /**
@@ -572,10 +1279,30 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The record to be removed.
    */
   public void removeRecord(T record) {
-    if (original.contains(record)) {
-      original.remove(record);
-      filtered.remove(record);
-      load();
+    int originalPosition = indexOfOriginal(record);
+    if (originalPosition > -1) {
+      T removed = original.remove(originalPosition);
+      invalidateColumnIndexes();
+      if (nonNull(originalIndex)) {
+        originalIndex.onRemoved(original, originalPosition, removed);
+      }
+      int filteredPosition = indexOfFiltered(removed);
+      if (filteredPosition > -1) {
+        columnAggregates.onRemoved(filtered.remove(filteredPosition));
+        if (nonNull(filteredIndex)) {
+          filteredIndex.onRemoved(filtered, filteredPosition, removed);
+        }
+      }
+      if (canFireDelta()) {
+        fireDelta(
+            filteredPosition > -1
+                ? Collections.singletonList(filteredPosition)
+                : Collections.emptyList(),
+            Collections.emptyList(),
+            Collections.emptyList());
+      } else {
+        load();
+      }
     }
   }
 
@@ -596,7 +1323,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param record The new record to replace the existing record.
    */
   public void updateRecord(T record) {
-    updateRecord(original.indexOf(record), record);
+    updateRecord(indexOfOriginal(record), record);
   }
 
   /**
@@ -616,10 +1343,11 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of new records to replace the existing records.
    */
   public void updateRecords(Collection<T> records) {
+    List<Integer> updatedPositions = new ArrayList<>();
     for (T record : records) {
-      internalUpdate(original.indexOf(record), record, false);
+      addPosition(updatedPositions, internalUpdate(indexOfOriginal(record), record, false));
     }
-    load();
+    loadUpdated(updatedPositions);
   }
 
   /**
@@ -630,13 +1358,165 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of new records to replace the existing records.
    */
   public void updateRecords(int startIndex, Collection<T> records) {
+    List<Integer> updatedPositions = new ArrayList<>();
     for (T record : records) {
       if (startIndex >= original.size()) {
         break;
       }
-      internalUpdate(startIndex++, record, false);
+      addPosition(updatedPositions, internalUpdate(startIndex++, record, false));
+    }
+    loadUpdated(updatedPositions);
+  }
+
+  /**
+   * Queues a record update to be applied with the next flush instead of immediately, this is meant
+   * for high frequency live updates. Updates of the same record that are queued before the flush
+   * are merged and only the last one is applied. Records are matched using the {@link
+   * RecordKeyProvider} when set, otherwise using {@code equals}.
+   *
+   * <p>On flush the updated records are emitted once as a delta of the current page. While a sort
+   * is applied only the records that no longer fit in the sorted order are moved, and the records
+   * that start or stop matching the current search are inserted or removed. The records are
+   * re-filtered or re-sorted once for the whole flush only when too many of them moved, or when a
+   * record starts matching the search while no sort is applied. While the records are grouped a
+   * full update is emitted.
+   *
+   * <p>Without a {@link RecordKeyProvider} every streamed record is located by scanning the
+   * records, which costs a linear time per record on each flush, a key provider should be set for
+   * high frequency streams so that records are located in constant time.
+   *
+   * @param record The new record to replace the existing record.
+   * @see #setStreamFlushInterval(int)
+   */
+  public void streamRecordUpdate(T record) {
+    Object key = nonNull(originalIndex) ? originalIndex.keyOf(record) : record;
+    streamingMetrics.onReceived(nonNull(streamedUpdates.put(key, record)));
+    scheduleStreamFlush();
+  }
+
+  /**
+   * Queues multiple record updates to be applied with the next flush.
+   *
+   * @param records A collection of new records to replace the existing records.
+   * @see #streamRecordUpdate(Object)
+   */
+  public void streamRecordUpdates(Collection<T> records) {
+    records.forEach(this::streamRecordUpdate);
+  }
+
+  /**
+   * Sets the minimum interval in milliseconds between two flushes of the streamed record updates,
+   * which limits how often the table is updated. The default is {@code 0} which flushes the
+   * updates once per animation frame.
+   *
+   * @param streamFlushInterval The flush interval in milliseconds.
+   * @return This data store instance.
+   */
+  public LocalListDataStore<T> setStreamFlushInterval(int streamFlushInterval) {
+    this.streamFlushInterval = Math.max(0, streamFlushInterval);
+    return this;
+  }
+
+  /**
+   * Gets the minimum interval in milliseconds between two flushes of the streamed record updates.
+   *
+   * @return The flush interval in milliseconds, {@code 0} when flushing once per animation frame.
+   */
+  public int getStreamFlushInterval() {
+    return streamFlushInterval;
+  }
+
+  /**
+   * Gets the counters of the streamed record updates.
+   *
+   * @return The streaming update metrics.
+   */
+  public StreamingUpdateMetrics getStreamingMetrics() {
+    return streamingMetrics;
+  }
+
+  /** Applies the pending streamed record updates immediately and emits them in one update. */
+  public void flushStreamedUpdates() {
+    cancelStreamFlush();
+    if (streamedUpdates.isEmpty()) {
+      return;
+    }
+    List<T> records = new ArrayList<>(streamedUpdates.values());
+    streamedUpdates.clear();
+    streamingMetrics.onFlushed();
+
+    List<Integer> updatedPositions = new ArrayList<>();
+    List<Integer> droppedPositions = new ArrayList<>();
+    List<T> matchingRecords = new ArrayList<>();
+    for (T record : records) {
+      int index = indexOfOriginal(record);
+      if (index < 0) {
+        streamingMetrics.onDropped();
+        continue;
+      }
+      boolean wasFiltered = true;
+      boolean matches = true;
+      if (isSearchApplied()) {
+        wasFiltered = indexOfFiltered(original.get(index)) > -1;
+        matches = getSearchFilter().filterRecord(getLastSearch(), record);
+      }
+      int position = internalUpdate(index, record, false);
+      if (wasFiltered && !matches) {
+        droppedPositions.add(position);
+      } else if (!wasFiltered && matches) {
+        matchingRecords.add(record);
+      } else {
+        addPosition(updatedPositions, position);
+      }
+      streamingMetrics.onApplied();
+    }
+
+    List<Integer> removedPositions = new ArrayList<>();
+    List<Integer> insertedPositions = new ArrayList<>();
+    if (!placeChangedRecords(
+        updatedPositions, droppedPositions, matchingRecords, removedPositions, insertedPositions)) {
+      if (!droppedPositions.isEmpty() || !matchingRecords.isEmpty()) {
+        filtered = filterRecords(getLastSearch(), original);
+        invalidateFilteredIndex();
+        invalidateAggregates();
+      }
+      load();
+    } else if (isDeltaApplicable()) {
+      fireDelta(removedPositions, insertedPositions, updatedPositions);
+    } else {
+      load();
+    }
+  }
+
+  private void scheduleStreamFlush() {
+    if (streamFlushScheduled) {
+      return;
+    }
+    streamFlushScheduled = true;
+    if (streamFlushInterval > 0) {
+      if (isNull(streamFlushTimer)) {
+        streamFlushTimer =
+            new Timer() {
+              @Override
+              public void run() {
+                flushStreamedUpdates();
+              }
+            };
+      }
+      streamFlushTimer.schedule(streamFlushInterval);
+    } else {
+      streamFlushFrame = DomGlobal.requestAnimationFrame(timestamp -> flushStreamedUpdates());
+    }
+  }
+
+  private void cancelStreamFlush() {
+    if (streamFlushScheduled) {
+      streamFlushScheduled = false;
+      if (nonNull(streamFlushTimer)) {
+        streamFlushTimer.cancel();
+      }
+      DomGlobal.cancelAnimationFrame(streamFlushFrame);
     }
-    load();
   }
 
   /**
@@ -646,18 +1526,232 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param index The index of the record to be updated.
    * @param record The new record to replace the existing record.
    * @param load Specifies whether to trigger a data load after the update.
+   * @return The position of the updated record in the filtered list, or -1 if not found.
    */
-  private void internalUpdate(int index, T record, boolean load) {
+  private int internalUpdate(int index, T record, boolean load) {
+    int filteredPosition = -1;
     if (index >= 0 && index < original.size()) {
-      T oldRecord = original.get(index);
-      original.set(index, record);
-      if (filtered.contains(oldRecord)) {
-        filtered.set(filtered.indexOf(oldRecord), record);
+      invalidateSearchRefinement();
+      T oldRecord = original.set(index, record);
+      invalidateColumnIndexes();
+      if (nonNull(originalIndex)) {
+        originalIndex.onSet(original, index, oldRecord, record);
+      }
+      filteredPosition = indexOfFiltered(oldRecord);
+      if (filteredPosition > -1) {
+        T oldFiltered = filtered.set(filteredPosition, record);
+        if (oldFiltered == record) {
+          invalidateAggregates();
+        } else {
+          columnAggregates.onReplaced(oldFiltered, record);
+        }
+        if (nonNull(filteredIndex)) {
+          filteredIndex.onSet(filtered, filteredPosition, oldRecord, record);
+        }
       }
       if (load) {
-        load();
+        List<Integer> updatedPositions = new ArrayList<>();
+        addPosition(updatedPositions, filteredPosition);
+        loadUpdated(updatedPositions);
+      }
+    }
+    return filteredPosition;
+  }
+
+  private void loadUpdated(List<Integer> updatedPositions) {
+    List<Integer> removedPositions = new ArrayList<>();
+    List<Integer> insertedPositions = new ArrayList<>();
+    if (placeChangedRecords(
+            updatedPositions,
+            Collections.emptyList(),
+            Collections.emptyList(),
+            removedPositions,
+            insertedPositions)
+        && canFireDelta()) {
+      fireDelta(removedPositions, insertedPositions, updatedPositions);
+    } else {
+      load();
+    }
+  }
+
+  /**
+   * Places the changed records in the filtered list instead of sorting or filtering all the records
+   * again. While a sort is applied, an updated record that still fits between its neighbours is
+   * left in place, any other updated record is removed and inserted back at the position found
+   * with a binary search, and the added records are inserted the same way. The dropped records are
+   * removed. The filtered records index is then refreshed for the changed range only. When too
+   * many records moved for placing them one by one to be cheaper than sorting, nothing is changed
+   * and the sorted order is invalidated, the records are then sorted again on the next update.
+   *
+   * @param updatedPositions The positions of the updated records in the filtered list, the moved
+   *     positions are taken out of it and the other positions are shifted to the new order.
+   * @param droppedPositions The positions of the records to remove from the filtered list.
+   * @param addedRecords The records to add to the filtered list, they are placed by the applied
+   *     sort so they can be added only while the sorted order is kept.
+   * @param removedPositions Receives the positions the records were removed from.
+   * @param insertedPositions Receives the positions the records were inserted at.
+   * @return {@code false} if the changes were not placed and the filtered list is unchanged,
+   *     {@code true} otherwise.
+   */
+  private boolean placeChangedRecords(
+      List<Integer> updatedPositions,
+      List<Integer> droppedPositions,
+      List<T> addedRecords,
+      List<Integer> removedPositions,
+      List<Integer> insertedPositions) {
+    boolean sorted = isSortedOrderKept();
+    if (!sorted && !addedRecords.isEmpty()) {
+      return false;
+    }
+    Comparator<T> comparator = sorted ? getComparator(sortedBy, sortedDirection) : null;
+    Set<Integer> dropped = new HashSet<>(droppedPositions);
+    TreeSet<Integer> changed = new TreeSet<>(updatedPositions);
+    changed.addAll(dropped);
+    List<Integer> positions = new ArrayList<>(changed);
+    List<Integer> leaving = new ArrayList<>();
+    List<T> movedRecords = new ArrayList<>();
+    List<Boolean> afterEqual = new ArrayList<>();
+    int runStart = 0;
+    while (runStart < positions.size()) {
+      int runEnd = runStart;
+      while (runEnd + 1 < positions.size()
+          && positions.get(runEnd + 1) == positions.get(runEnd) + 1) {
+        runEnd++;
+      }
+      int previous = positions.get(runStart) - 1;
+      int next = positions.get(runEnd) + 1;
+      for (int i = runStart; i <= runEnd; i++) {
+        int position = positions.get(i);
+        T record = filtered.get(position);
+        if (dropped.contains(position)) {
+          leaving.add(position);
+        } else if (!sorted) {
+          previous = position;
+        } else if (previous >= 0 && comparator.compare(filtered.get(previous), record) > 0) {
+          leaving.add(position);
+          movedRecords.add(record);
+          afterEqual.add(true);
+        } else if (next < filtered.size() && comparator.compare(record, filtered.get(next)) > 0) {
+          leaving.add(position);
+          movedRecords.add(record);
+          afterEqual.add(false);
+        } else {
+          previous = position;
+        }
+      }
+      runStart = runEnd + 1;
+    }
+    int placedCount = movedRecords.size() + addedRecords.size();
+    if (leaving.isEmpty() && placedCount == 0) {
+      return true;
+    }
+    if (sorted && placedCount * placedCount > filtered.size()) {
+      invalidateSortedOrder();
+      return false;
+    }
+
+    List<T> droppedRecords = new ArrayList<>(dropped.size());
+    for (int i = leaving.size() - 1; i >= 0; i--) {
+      int position = leaving.get(i);
+      T removed = filtered.remove(position);
+      if (dropped.contains(position)) {
+        columnAggregates.onRemoved(removed);
+        droppedRecords.add(removed);
       }
     }
+    List<Integer> placed = new ArrayList<>(placedCount);
+    for (int i = 0; i < movedRecords.size(); i++) {
+      insertSorted(movedRecords.get(i), afterEqual.get(i), comparator, placed);
+    }
+    for (T record : addedRecords) {
+      insertSorted(record, true, comparator, placed);
+      columnAggregates.onAdded(record);
+    }
+    Collections.sort(placed);
+
+    updatedPositions.clear();
+    for (int position : positions) {
+      int removedBefore = Collections.binarySearch(leaving, position);
+      if (removedBefore < 0) {
+        int newPosition = position + removedBefore + 1;
+        for (int placedPosition : placed) {
+          if (placedPosition > newPosition) {
+            break;
+          }
+          newPosition++;
+        }
+        updatedPositions.add(newPosition);
+      }
+    }
+    removedPositions.addAll(leaving);
+    insertedPositions.addAll(placed);
+    if (nonNull(filteredIndex)) {
+      int fromIndex =
+          Math.min(
+              leaving.isEmpty() ? Integer.MAX_VALUE : leaving.get(0),
+              placed.isEmpty() ? Integer.MAX_VALUE : placed.get(0));
+      if (leaving.size() == placed.size()) {
+        filteredIndex.onMoved(
+            filtered,
+            fromIndex,
+            Math.max(leaving.get(leaving.size() - 1), placed.get(placed.size() - 1)));
+      } else {
+        filteredIndex.onRemoved(filtered, fromIndex, droppedRecords);
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Inserts a record in the sorted filtered records at the position found with a binary search.
+   *
+   * @param record The record to insert.
+   * @param afterEqual {@code true} to insert the record after the records that sort equal to it,
+   *     {@code false} to insert it before them.
+   * @param comparator The comparator of the applied sort.
+   * @param placed The positions of the records inserted before, they are shifted by this insertion
+   *     and the position of the inserted record is added to them.
+   */
+  private void insertSorted(
+      T record, boolean afterEqual, Comparator<T> comparator, List<Integer> placed) {
+    int position = sortedPosition(record, afterEqual, comparator);
+    filtered.add(position, record);
+    for (int i = 0; i < placed.size(); i++) {
+      if (placed.get(i) >= position) {
+        placed.set(i, placed.get(i) + 1);
+      }
+    }
+    placed.add(position);
+  }
+
+  /**
+   * Finds the position of a record in the sorted filtered records with a binary search.
+   *
+   * @param record The record to place.
+   * @param afterEqual {@code true} to place the record after the records that sort equal to it,
+   *     {@code false} to place it before them.
+   * @param comparator The comparator of the applied sort.
+   * @return The position to insert the record at.
+   */
+  private int sortedPosition(T record, boolean afterEqual, Comparator<T> comparator) {
+    int low = 0;
+    int high = filtered.size();
+    while (low < high) {
+      int middle = (low + high) >>> 1;
+      int compared = comparator.compare(filtered.get(middle), record);
+      if (compared < 0 || (compared == 0 && afterEqual)) {
+        low = middle + 1;
+      } else {
+        high = middle;
+      }
+    }
+    return low;
+  }
+
+  private static void addPosition(List<Integer> positions, int position) {
+    if (position > -1) {
+      positions.add(position);
+    }
   }
 
   /**
@@ -666,9 +1760,48 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of records to be added.
    */
   public void addRecords(Collection<T> records) {
-    original.addAll(records);
-    List<T> newData = new ArrayList<>(original);
-    setData(newData);
+    if (canFireDelta()) {
+      int originalSize = original.size();
+      original.addAll(records);
+      invalidateColumnIndexes();
+      if (nonNull(originalIndex)) {
+        originalIndex.onShifted(original, originalSize);
+      }
+      List<T> added =
+          isSearchApplied()
+              ? records.stream()
+                  .filter(record -> getSearchFilter().filterRecord(getLastSearch(), record))
+                  .collect(Collectors.toList())
+              : new ArrayList<>(records);
+      added.forEach(columnAggregates::onAdded);
+      List<Integer> insertedPositions = new ArrayList<>(added.size());
+      if (isSortedOrderKept() && added.size() * added.size() <= filtered.size()) {
+        Comparator<T> comparator = getComparator(sortedBy, sortedDirection);
+        added.forEach(record -> insertSorted(record, true, comparator, insertedPositions));
+        if (nonNull(filteredIndex) && !insertedPositions.isEmpty()) {
+          filteredIndex.onShifted(filtered, Collections.min(insertedPositions));
+        }
+      } else {
+        int filteredSize = filtered.size();
+        filtered.addAll(added);
+        invalidateSortedOrder();
+        if (nonNull(filteredIndex)) {
+          filteredIndex.onShifted(filtered, filteredSize);
+        }
+        for (int i = filteredSize; i < filtered.size(); i++) {
+          insertedPositions.add(i);
+        }
+      }
+      if (canFireDelta()) {
+        fireDelta(Collections.emptyList(), insertedPositions, Collections.emptyList());
+      } else {
+        load();
+      }
+    } else {
+      original.addAll(records);
+      List<T> newData = new ArrayList<>(original);
+      setData(newData);
+    }
   }
 
   /**
@@ -680,9 +1813,7 @@ public class LocalListDataStore<T> implements DataStore<T> {
    */
   @Deprecated
   public void removeRecord(Collection<T> records) {
-    original.removeAll(records);
-    filtered.removeAll(records);
-    load();
+    removeRecords(records);
   }
 
   /**
@@ -691,9 +1822,39 @@ public class LocalListDataStore<T> implements DataStore<T> {
    * @param records A collection of records to be removed.
    */
   public void removeRecords(Collection<T> records) {
-    original.removeAll(records);
-    filtered.removeAll(records);
-    load();
+    Predicate<T> removedRecord;
+    if (nonNull(originalIndex)) {
+      Set<Object> keys = new HashSet<>();
+      records.forEach(record -> keys.add(originalIndex.keyOf(record)));
+      removedRecord = record -> keys.contains(originalIndex.keyOf(record));
+    } else {
+      removedRecord = records::contains;
+    }
+    boolean delta = canFireDelta();
+    List<Integer> removedPositions = new ArrayList<>();
+    if (delta) {
+      for (int i = 0; i < filtered.size(); i++) {
+        if (removedRecord.test(filtered.get(i))) {
+          removedPositions.add(i);
+        }
+      }
+    }
+    original.removeIf(removedRecord);
+    invalidateColumnIndexes();
+    filtered.removeIf(
+        record -> {
+          if (removedRecord.test(record)) {
+            columnAggregates.onRemoved(record);
+            return true;
+          }
+          return false;
+        });
+    invalidateIndexes();
+    if (delta) {
+      fireDelta(removedPositions, Collections.emptyList(), Collections.emptyList());
+    } else {
+      load();
+    }
   }
 
   /**
@@ -724,6 +1885,210 @@ public class LocalListDataStore<T> implements DataStore<T> {
     this.dragDropRecordActions = dragDropRecordActions;
   }
 
+  /**
+   * Finds the position of a record in the original records list, using the records index when a
+   * {@link RecordKeyProvider} is set.
+   *
+   * @param record The record to look for.
+   * @return The position of the record, or -1 if not found.
+   */
+  protected int indexOfOriginal(T record) {
+    if (nonNull(originalIndex)) {
+      return originalIndex.indexOf(original, record);
+    }
+    return original.indexOf(record);
+  }
+
+  /**
+   * Finds the position of a record in the filtered records list, using the records index when a
+   * {@link RecordKeyProvider} is set.
+   *
+   * @param record The record to look for.
+   * @return The position of the record, or -1 if not found.
+   */
+  protected int indexOfFiltered(T record) {
+    if (nonNull(filteredIndex)) {
+      return filteredIndex.indexOf(filtered, record);
+    }
+    return filtered.indexOf(record);
+  }
+
+  /**
+   * Invalidates the original and filtered records indexes, they will be rebuilt on the next lookup.
+   * Subclasses that modify the records lists directly should call this method.
+   */
+  protected void invalidateIndexes() {
+    if (nonNull(originalIndex)) {
+      originalIndex.invalidate();
+    }
+    invalidateFilteredIndex();
+  }
+
+  /** Invalidates the filtered records index, it will be rebuilt on the next lookup. */
+  protected void invalidateFilteredIndex() {
+    if (nonNull(filteredIndex)) {
+      filteredIndex.invalidate();
+    }
+  }
+
+  /**
+   * Checks if the changes to the records can be emitted as a delta {@link DataChangedEvent}. This
+   * is the case when delta updates are enabled, the initial data was already emitted, the emitted
+   * records are not grouped, and the filtered records are still in the order of the applied sort
+   * if any.
+   *
+   * @return {@code true} if a delta can be emitted, {@code false} otherwise.
+   */
+  protected boolean canFireDelta() {
+    return isDeltaUpdates() && isDeltaApplicable();
+  }
+
+  private boolean isDeltaApplicable() {
+    return isAutoSortApplied() && !isGrouped() && (!isSortApplied() || isSortedOrderKept());
+  }
+
+  private boolean isSortApplied() {
+    return nonNull(getRecordsSorter()) && (nonNull(getLastSort()) || isAutoSort());
+  }
+
+  private boolean isSortedOrderKept() {
+    return isSortApplied() && sortedRecords == filtered;
+  }
+
+  private boolean isSearchApplied() {
+    return nonNull(getSearchFilter()) && nonNull(getLastSearch());
+  }
+
+  /**
+   * Emits the changes of the filtered records as a delta of the current page. Removed positions
+   * refer to the filtered records before the change, inserted and updated positions refer to the
+   * filtered records after it. Changes after the current page are emitted as a delta without
+   * changed rows so that listeners still get the new total count, and the rows that the change
+   * pushes off or pulls onto the end of the page are removed or inserted. A full update of the
+   * page is emitted instead when the change moves the active page or changes the number of
+   * records before the page, since then all the rows of the page shift.
+   *
+   * @param removedPositions The positions of the removed records before the change.
+   * @param insertedPositions The positions of the inserted records after the change.
+   * @param updatedPositions The positions of the updated records after the change.
+   */
+  private void fireDelta(
+      List<Integer> removedPositions,
+      List<Integer> insertedPositions,
+      List<Integer> updatedPositions) {
+    int fromIndex = 0;
+    int pageSize = Integer.MAX_VALUE;
+    if (nonNull(getPagination())) {
+      if (removedPositions.size() != insertedPositions.size()) {
+        int activePage = getPagination().activePage();
+        updatePaginationKeepingPage();
+        if (getPagination().activePage() != activePage) {
+          fireUpdate(false);
+          return;
+        }
+      }
+      pageSize = getPagination().getPageSize();
+      fromIndex = pageSize * (getPagination().activePage() - 1);
+    }
+    int oldSize = filtered.size() - insertedPositions.size() + removedPositions.size();
+    int oldLength = Math.max(0, Math.min(pageSize, oldSize - fromIndex));
+    int newLength = Math.max(0, Math.min(pageSize, filtered.size() - fromIndex));
+
+    int shiftedBefore = 0;
+    Set<Integer> pageRemoved = new HashSet<>();
+    for (int position : removedPositions) {
+      if (position < fromIndex) {
+        shiftedBefore++;
+      } else if (position < fromIndex + oldLength) {
+        pageRemoved.add(position - fromIndex);
+      }
+    }
+    Set<Integer> pageInserted = new HashSet<>();
+    for (int position : insertedPositions) {
+      if (position < fromIndex) {
+        shiftedBefore--;
+      } else if (position < fromIndex + newLength) {
+        pageInserted.add(position - fromIndex);
+      }
+    }
+    if (shiftedBefore != 0) {
+      fireUpdate(false);
+      return;
+    }
+    int surplus = oldLength - pageRemoved.size() - newLength + pageInserted.size();
+    for (int i = oldLength - 1; surplus > 0; i--) {
+      if (pageRemoved.add(i)) {
+        surplus--;
+      }
+    }
+    for (int i = newLength - 1; surplus < 0; i--) {
+      if (pageInserted.add(i)) {
+        surplus++;
+      }
+    }
+    List<Integer> pageUpdated = new ArrayList<>();
+    for (int position : updatedPositions) {
+      int pagePosition = position - fromIndex;
+      if (pagePosition >= 0 && pagePosition < newLength && !pageInserted.contains(pagePosition)) {
+        pageUpdated.add(pagePosition);
+      }
+    }
+
+    List<T> updateRecords =
+        nonNull(getPagination())
+            ? new ArrayList<>(filtered.subList(fromIndex, fromIndex + newLength))
+            : Collections.unmodifiableList(filtered);
+    List<IndexRange> removedRanges = toRanges(pageRemoved);
+    List<IndexRange> insertedRanges = toRanges(pageInserted);
+    List<IndexRange> updatedRanges = toRanges(pageUpdated);
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(
+                new DataChangedEvent<>(
+                    updateRecords, filtered.size(), removedRanges, insertedRanges, updatedRanges)));
+    fireAggregatesChanged();
+  }
+
+  private static List<IndexRange> toRanges(Collection<Integer> positions) {
+    List<IndexRange> ranges = new ArrayList<>();
+    List<Integer> sorted = new ArrayList<>(positions);
+    Collections.sort(sorted);
+    int start = -1;
+    int count = 0;
+    for (int position : sorted) {
+      if (count > 0 && position == start + count) {
+        count++;
+      } else if (count == 0 || position >= start + count) {
+        if (count > 0) {
+          ranges.add(IndexRange.of(start, count));
+        }
+        start = position;
+        count = 1;
+      }
+    }
+    if (count > 0) {
+      ranges.add(IndexRange.of(start, count));
+    }
+    return ranges;
+  }
+
+  private void invalidateCustomDragDropIndex() {
+    if (dragDropRecordActions != defaultDragDropRecordActions) {
+      invalidateFilteredIndex();
+      invalidateAggregates();
+    }
+  }
+
+  private static int minIndex(int first, int second) {
+    if (first < 0) {
+      return Math.max(second, 0);
+    }
+    if (second < 0) {
+      return first;
+    }
+    return Math.min(first, second);
+  }
+
   /**
    * An interface defining actions for handling drag-and-drop operations on records within the data
    * store.
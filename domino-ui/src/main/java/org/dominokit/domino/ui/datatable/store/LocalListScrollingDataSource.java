@@ -23,11 +23,13 @@ import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 import org.dominokit.domino.ui.datatable.events.BodyScrollEvent;
 import org.dominokit.domino.ui.datatable.events.SearchEvent;
 import org.dominokit.domino.ui.datatable.events.SortEvent;
 import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
 import org.dominokit.domino.ui.datatable.plugins.pagination.BodyScrollPlugin;
 
 /**
@@ -49,6 +51,8 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
   private SearchFilter<T> searchFilter;
   private RecordsSorter<T> recordsSorter;
   private SortEvent<T> lastSort;
+  private KeyedRecordIndex<T> originalIndex;
+  private KeyedRecordIndex<T> filteredIndex;
 
   /**
    * Creates a new instance of {@link LocalListScrollingDataSource} with the specified page size.
@@ -159,6 +163,108 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
     this.original.addAll(data);
     this.filtered.clear();
     this.filtered.addAll(original);
+    invalidateIndexes();
+  }
+
+  /**
+   * Sets a key provider used to identify records in this data source. When set, the data source
+   * keeps a key to position index for both the original and the filtered records, so that updating
+   * and removing records locate the records in constant time instead of scanning the lists.
+   *
+   * <p>The keys must be unique across the data source records. Pass {@code null} to disable
+   * indexing.
+   *
+   * @param recordKeyProvider The records key provider.
+   * @return This data source instance for method chaining.
+   */
+  public LocalListScrollingDataSource<T> setRecordKeyProvider(
+      RecordKeyProvider<T> recordKeyProvider) {
+    if (nonNull(recordKeyProvider)) {
+      this.originalIndex = new KeyedRecordIndex<>(recordKeyProvider);
+      this.filteredIndex = new KeyedRecordIndex<>(recordKeyProvider);
+    } else {
+      this.originalIndex = null;
+      this.filteredIndex = null;
+    }
+    return this;
+  }
+
+  /**
+   * Gets the key provider used to identify records in this data source.
+   *
+   * @return The records key provider, or {@code null} if records are not indexed.
+   */
+  public RecordKeyProvider<T> getRecordKeyProvider() {
+    return nonNull(originalIndex) ? originalIndex.getKeyProvider() : null;
+  }
+
+  /**
+   * Replaces an existing record with the provided one and refreshes the already loaded records.
+   * Records are matched by their keys when a {@link RecordKeyProvider} is set, otherwise by {@code
+   * equals}.
+   *
+   * @param record The new record to replace the existing record.
+   */
+  public void updateRecord(T record) {
+    int originalPosition = indexOf(originalIndex, original, record);
+    if (originalPosition > -1) {
+      T oldRecord = original.set(originalPosition, record);
+      if (nonNull(originalIndex)) {
+        originalIndex.onSet(original, originalPosition, oldRecord, record);
+      }
+      int filteredPosition = indexOf(filteredIndex, filtered, oldRecord);
+      if (filteredPosition > -1) {
+        filtered.set(filteredPosition, record);
+        if (nonNull(filteredIndex)) {
+          filteredIndex.onSet(filtered, filteredPosition, oldRecord, record);
+        }
+        refreshLoaded();
+      }
+    }
+  }
+
+  /**
+   * Removes a record from the data source and refreshes the already loaded records. Records are
+   * matched by their keys when a {@link RecordKeyProvider} is set, otherwise by {@code equals}.
+   *
+   * @param record The record to be removed.
+   */
+  public void removeRecord(T record) {
+    int originalPosition = indexOf(originalIndex, original, record);
+    if (originalPosition > -1) {
+      T removed = original.remove(originalPosition);
+      if (nonNull(originalIndex)) {
+        originalIndex.onRemoved(original, originalPosition, removed);
+      }
+      int filteredPosition = indexOf(filteredIndex, filtered, removed);
+      if (filteredPosition > -1) {
+        filtered.remove(filteredPosition);
+        if (nonNull(filteredIndex)) {
+          filteredIndex.onRemoved(filtered, filteredPosition, removed);
+        }
+        refreshLoaded();
+      }
+    }
+  }
+
+  private int indexOf(KeyedRecordIndex<T> index, List<T> list, T record) {
+    if (nonNull(index)) {
+      return index.indexOf(list, record);
+    }
+    return list.indexOf(record);
+  }
+
+  private void invalidateIndexes() {
+    if (nonNull(originalIndex)) {
+      originalIndex.invalidate();
+    }
+    invalidateFilteredIndex();
+  }
+
+  private void invalidateFilteredIndex() {
+    if (nonNull(filteredIndex)) {
+      filteredIndex.invalidate();
+    }
   }
 
   /**
@@ -201,6 +307,15 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
                     filtered.size())));
   }
 
+  private void refreshLoaded() {
+    int toIndex = Math.min(pageSize * (pageIndex + 1), filtered.size());
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(
+                new DataChangedEvent<>(
+                    new ArrayList<>(filtered.subList(0, toIndex)), false, filtered.size())));
+  }
+
   private int getToIndex(int fromIndex) {
     if (pageIndex == 0 && initialLoadedPages > 1) {
       int toIndex = fromIndex + (initialLoadedPages * pageSize);
@@ -231,6 +346,17 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
     }
   }
 
+  /**
+   * Declares the table events handled by this store, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, LocalListScrollingDataSource.class, BODY_SCROLL, SORT_EVENT, SEARCH_EVENT);
+  }
+
   /**
    * Handles scrolling events in the data table, specifically when scrolling to the bottom. It
    * increments the page index and triggers an update in append mode if the scroll position is at
@@ -262,6 +388,7 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
           original.stream()
               .filter(t -> searchFilter.filterRecord(event, t))
               .collect(Collectors.toList());
+      invalidateFilteredIndex();
       if (nonNull(lastSort)) {
         onSort(lastSort);
       } else {
@@ -283,6 +410,7 @@ public class LocalListScrollingDataSource<T> implements DataStore<T> {
       filtered.sort(
           recordsSorter.onSortChange(
               event.getColumnConfig().getSortKey(), event.getSortDirection()));
+      invalidateFilteredIndex();
       pageIndex = 0;
       fireUpdate(false);
     }
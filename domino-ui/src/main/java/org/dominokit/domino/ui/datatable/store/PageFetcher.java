@@ -0,0 +1,67 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.List;
+
+/**
+ * The {@code PageFetcher} functional interface defines a contract for fetching a page of records
+ * for a {@link RemoteDataStore}, e.g. from a REST endpoint.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface PageFetcher<T> {
+
+  /**
+   * Fetches the requested page, the result is reported to the callback either synchronously or
+   * asynchronously.
+   *
+   * @param request The requested page with the applied filters and sort.
+   * @param callback The callback to report the result to.
+   */
+  void fetch(PageRequest request, PageCallback<T> callback);
+
+  /**
+   * The callback a {@link PageFetcher} reports the fetched page to.
+   *
+   * @param <T> The type of data representing the records in the data table.
+   */
+  interface PageCallback<T> {
+    /**
+     * Reports the records of the fetched page.
+     *
+     * @param records The records of the page.
+     * @param totalCount The total number of records matching the request filters.
+     */
+    void onSuccess(List<T> records, int totalCount);
+
+    /**
+     * Reports a failure to fetch the page.
+     *
+     * @param error The failure cause.
+     */
+    void onFailure(Throwable error);
+
+    /**
+     * Checks if the result of the request is no longer needed, a fetcher may use this to abort the
+     * request, any result reported after cancellation is ignored.
+     *
+     * @return {@code true} if the request was superseded, {@code false} otherwise.
+     */
+    boolean isCancelled();
+  }
+}
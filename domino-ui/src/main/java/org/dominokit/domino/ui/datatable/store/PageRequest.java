@@ -0,0 +1,170 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+
+/**
+ * The {@code PageRequest} class describes a page of records requested by a {@link
+ * RemoteDataStore}, it holds the applied filters, the sort and the requested page. Two requests
+ * are equal when they have the same filters with the same values, the same sort and the same page,
+ * which makes the request usable as a cache key.
+ */
+public class PageRequest {
+
+  private final List<Filter> filters;
+  private final String sortBy;
+  private final SortDirection sortDirection;
+  private final int page;
+  private final int pageSize;
+  private final String key;
+
+  /**
+   * Creates a new page request.
+   *
+   * @param filters The applied filters, the list is copied.
+   * @param sortBy The sort key, or {@code null} if no sort is applied.
+   * @param sortDirection The sort direction, or {@code null} if no sort is applied.
+   * @param page The requested page, starting from 1.
+   * @param pageSize The number of records per page.
+   */
+  public PageRequest(
+      List<Filter> filters, String sortBy, SortDirection sortDirection, int page, int pageSize) {
+    this.filters =
+        Collections.unmodifiableList(
+            SearchRefinement.snapshot(isNull(filters) ? new ArrayList<>() : filters));
+    this.sortBy = sortBy;
+    this.sortDirection = sortDirection;
+    this.page = page;
+    this.pageSize = pageSize;
+    this.key = createKey();
+  }
+
+  private String createKey() {
+    StringBuilder builder = new StringBuilder();
+    for (Filter filter : filters) {
+      builder
+          .append(filter.getCategory())
+          .append('|')
+          .append(filter.getFieldName())
+          .append('|')
+          .append(filter.getType())
+          .append('|')
+          .append(nonNull(filter.getOperator()) ? filter.getOperator().getName() : null)
+          .append('|')
+          .append(filter.getValues())
+          .append(';');
+    }
+    return builder
+        .append("sort|")
+        .append(sortBy)
+        .append('|')
+        .append(sortDirection)
+        .append("|page|")
+        .append(page)
+        .append('|')
+        .append(pageSize)
+        .toString();
+  }
+
+  /**
+   * Creates a request for another page with the same filters and sort.
+   *
+   * @param page The requested page, starting from 1.
+   * @return The new page request.
+   */
+  public PageRequest forPage(int page) {
+    return new PageRequest(filters, sortBy, sortDirection, page, pageSize);
+  }
+
+  /**
+   * Retrieves the applied filters.
+   *
+   * @return An unmodifiable list of the filters.
+   */
+  public List<Filter> getFilters() {
+    return filters;
+  }
+
+  /**
+   * Retrieves the sort key.
+   *
+   * @return The sort key, or {@code null} if no sort is applied.
+   */
+  public String getSortBy() {
+    return sortBy;
+  }
+
+  /**
+   * Retrieves the sort direction.
+   *
+   * @return The sort direction, or {@code null} if no sort is applied.
+   */
+  public SortDirection getSortDirection() {
+    return sortDirection;
+  }
+
+  /**
+   * Retrieves the requested page.
+   *
+   * @return The page number, starting from 1.
+   */
+  public int getPage() {
+    return page;
+  }
+
+  /**
+   * Retrieves the number of records per page.
+   *
+   * @return The page size.
+   */
+  public int getPageSize() {
+    return pageSize;
+  }
+
+  /**
+   * Retrieves the index of the first record of the requested page.
+   *
+   * @return The offset of the page.
+   */
+  public int getOffset() {
+    return (page - 1) * pageSize;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (!(o instanceof PageRequest)) return false;
+    return key.equals(((PageRequest) o).key);
+  }
+
+  @Override
+  public int hashCode() {
+    return key.hashCode();
+  }
+
+  @Override
+  public String toString() {
+    return key;
+  }
+}
@@ -0,0 +1,99 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The {@code RecordGroup} class represents a group of the filtered records of a data store that
+ * share the same group key, the records are kept in their sorted order.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ * @see LocalListDataStore#setGrouping(java.util.function.Function)
+ */
+public class RecordGroup<T> {
+
+  private final String key;
+  private final List<T> records;
+  private final boolean expanded;
+  private final ColumnAggregates<T> aggregates;
+
+  RecordGroup(String key, List<T> records, boolean expanded, ColumnAggregates<T> aggregates) {
+    this.key = key;
+    this.records = records;
+    this.expanded = expanded;
+    this.aggregates = aggregates;
+  }
+
+  /**
+   * Gets the key shared by the records of this group.
+   *
+   * @return The group key.
+   */
+  public String getKey() {
+    return key;
+  }
+
+  /**
+   * Gets the records of this group in their sorted order.
+   *
+   * @return An unmodifiable list of the group records.
+   */
+  public List<T> getRecords() {
+    return Collections.unmodifiableList(records);
+  }
+
+  /**
+   * Gets the first record of this group.
+   *
+   * @return The first record.
+   */
+  public T getFirstRecord() {
+    return records.get(0);
+  }
+
+  /**
+   * Gets the number of records in this group.
+   *
+   * @return The records count.
+   */
+  public int getCount() {
+    return records.size();
+  }
+
+  /**
+   * Checks if the records of this group are emitted to the table, the records of a collapsed group
+   * are not emitted and the table renders only the group header.
+   *
+   * @return {@code true} if the group is expanded, {@code false} if it is collapsed.
+   */
+  public boolean isExpanded() {
+    return expanded;
+  }
+
+  /**
+   * Gets the aggregates of the store aggregated columns computed over the records of this group,
+   * they are computed on the first call.
+   *
+   * @return The aggregate values mapped by the column names.
+   * @see LocalListDataStore#aggregateColumns(java.util.Collection)
+   */
+  public Map<String, Object> getAggregates() {
+    return aggregates.getResults(records);
+  }
+}
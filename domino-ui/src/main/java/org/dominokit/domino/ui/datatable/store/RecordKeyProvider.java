@@ -0,0 +1,39 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code RecordKeyProvider} functional interface defines a contract for extracting a unique
+ * identity key from a record. Keys are used by data stores to locate records without scanning the
+ * records list.
+ *
+ * <p>The returned key must be unique across the records of the store, must be stable for the
+ * lifetime of the record, and must implement {@code equals} and {@code hashCode}.
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+@FunctionalInterface
+public interface RecordKeyProvider<T> {
+
+  /**
+   * Extracts the identity key of the provided record.
+   *
+   * @param record The record to extract the key from.
+   * @return The unique key of the record.
+   */
+  Object getKey(T record);
+}
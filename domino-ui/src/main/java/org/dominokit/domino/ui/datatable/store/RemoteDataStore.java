@@ -0,0 +1,414 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.dominokit.domino.ui.datatable.events.SearchEvent.SEARCH_EVENT;
+import static org.dominokit.domino.ui.datatable.events.SortEvent.SORT_EVENT;
+import static org.dominokit.domino.ui.datatable.events.TablePageChangeEvent.PAGINATION_EVENT;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import org.dominokit.domino.ui.datatable.events.SearchEvent;
+import org.dominokit.domino.ui.datatable.events.SortEvent;
+import org.dominokit.domino.ui.datatable.events.TableEvent;
+import org.dominokit.domino.ui.datatable.events.TableEventListener;
+import org.dominokit.domino.ui.datatable.events.TablePageChangeEvent;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.plugins.pagination.SortDirection;
+import org.dominokit.domino.ui.pagination.HasPagination;
+import org.gwtproject.timer.client.Timer;
+
+/**
+ * The {@code RemoteDataStore} class is a data store that loads the table records page by page
+ * using a {@link PageFetcher}, e.g. from a REST endpoint.
+ *
+ * <p>Search, sort and page change events are turned into {@link PageRequest}s. Events fired within
+ * the coalesce delay of each other result in a single request, and the response of a request is
+ * only applied if no newer request was made in the meantime, so fast typing or clicking never
+ * shows out of order results. Fetched pages are kept in a least recently used cache keyed by the
+ * request, and the next page is prefetched in the background after each page is shown.
+ *
+ * <pre>
+ * RemoteDataStore&lt;Contact&gt; store =
+ *     new RemoteDataStore&lt;&gt;((request, callback) -&gt; contactsService.fetch(request, callback))
+ *         .setPagination(pagination)
+ *         .setCoalesceDelay(200);
+ * </pre>
+ *
+ * @param <T> The type of data representing the records in the data table.
+ */
+public class RemoteDataStore<T> implements DataStore<T> {
+
+  private final List<StoreDataChangeListener<T>> listeners = new ArrayList<>();
+  private final PageFetcher<T> pageFetcher;
+  private HasPagination pagination;
+  private List<Filter> filters = new ArrayList<>();
+  private String sortBy;
+  private SortDirection sortDirection;
+  private int page = 1;
+  private int pageSize = 10;
+  private int coalesceDelay = 0;
+  private boolean prefetch = true;
+  private int cacheSize = 20;
+  private Consumer<Throwable> errorHandler = error -> {};
+  private Timer requestTimer;
+
+  private int requestSequence = 0;
+  private int cacheGeneration = 0;
+  private PageRequest lastRequest;
+  private final Map<PageRequest, PageResult<T>> cache =
+      new LinkedHashMap<PageRequest, PageResult<T>>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<PageRequest, PageResult<T>> eldest) {
+          return size() > cacheSize;
+        }
+      };
+  private final Map<PageRequest, PendingFetch> pendingFetches = new HashMap<>();
+
+  /**
+   * Creates a new remote data store.
+   *
+   * @param pageFetcher The fetcher used to load the pages.
+   */
+  public RemoteDataStore(PageFetcher<T> pageFetcher) {
+    this.pageFetcher = pageFetcher;
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void onDataChanged(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.add(dataChangeListener);
+  }
+
+  /** {@inheritDoc} */
+  @Override
+  public void removeDataChangeListener(StoreDataChangeListener<T> dataChangeListener) {
+    listeners.remove(dataChangeListener);
+  }
+
+  /**
+   * Loads the current page, the cache is invalidated first so the page is always fetched again.
+   */
+  @Override
+  public void load() {
+    invalidateCache();
+    cancelScheduledRequest();
+    requestPage();
+  }
+
+  /**
+   * Handles the search, sort and pagination events of the table.
+   *
+   * @param event The table event.
+   */
+  @Override
+  public void handleEvent(TableEvent event) {
+    switch (event.getType()) {
+      case SEARCH_EVENT:
+        this.filters = new ArrayList<>(((SearchEvent) event).getFilters());
+        this.page = 1;
+        if (nonNull(pagination) && pagination.activePage() > 1) {
+          pagination.gotoPage(1, true);
+        }
+        scheduleRequest();
+        break;
+      case SORT_EVENT:
+        SortEvent<?> sortEvent = (SortEvent<?>) event;
+        this.sortBy = sortEvent.getColumnConfig().getSortKey();
+        this.sortDirection = sortEvent.getSortDirection();
+        scheduleRequest();
+        break;
+      case PAGINATION_EVENT:
+        this.page =
+            nonNull(pagination)
+                ? pagination.activePage()
+                : ((TablePageChangeEvent) event).getPage();
+        scheduleRequest();
+        break;
+    }
+  }
+
+  /**
+   * Declares the table events handled by this store, the table delivers only these events to it.
+   *
+   * @return the handled event types
+   */
+  @Override
+  public Set<String> getHandledEventTypes() {
+    return TableEventListener.handledEventTypes(
+        this, RemoteDataStore.class, SEARCH_EVENT, SORT_EVENT, PAGINATION_EVENT);
+  }
+
+  private void scheduleRequest() {
+    if (coalesceDelay <= 0) {
+      requestPage();
+    } else {
+      if (isNull(requestTimer)) {
+        requestTimer =
+            new Timer() {
+              @Override
+              public void run() {
+                requestPage();
+              }
+            };
+      }
+      requestTimer.cancel();
+      requestTimer.schedule(coalesceDelay);
+    }
+  }
+
+  private void cancelScheduledRequest() {
+    if (nonNull(requestTimer)) {
+      requestTimer.cancel();
+    }
+  }
+
+  /** Requests the page matching the current filters, sort and page. */
+  private void requestPage() {
+    requestSequence++;
+    PageRequest request =
+        new PageRequest(filters, sortBy, sortDirection, page, getEffectivePageSize());
+    lastRequest = request;
+    PageResult<T> cached = cache.get(request);
+    if (nonNull(cached)) {
+      deliver(request, cached);
+      prefetchNext(request, cached.totalCount);
+    } else {
+      fetch(request, false);
+    }
+  }
+
+  /**
+   * Fetches a page or joins the fetch of that page in progress. The current request sequence is
+   * registered before the fetcher is called so that a fetcher completing synchronously delivers the
+   * page.
+   *
+   * @param request The page request.
+   * @param background {@code true} if the page is fetched in the background and is not delivered.
+   */
+  private void fetch(PageRequest request, boolean background) {
+    PendingFetch pendingFetch = pendingFetches.get(request);
+    boolean started = isNull(pendingFetch);
+    if (started) {
+      pendingFetch = new PendingFetch(request);
+      pendingFetches.put(request, pendingFetch);
+    }
+    if (!background) {
+      pendingFetch.sequences.add(requestSequence);
+    }
+    if (started) {
+      pageFetcher.fetch(request, pendingFetch);
+    }
+  }
+
+  private void prefetchNext(PageRequest request, int totalCount) {
+    if (prefetch && cacheSize > 0 && request.getOffset() + request.getPageSize() < totalCount) {
+      PageRequest next = request.forPage(request.getPage() + 1);
+      if (!cache.containsKey(next)) {
+        fetch(next, true);
+      }
+    }
+  }
+
+  private void deliver(PageRequest request, PageResult<T> result) {
+    if (nonNull(pagination) && pagination.getTotalCount() != result.totalCount) {
+      pagination.updatePagesByTotalCount(result.totalCount, true);
+      if (request.getPage() > 1) {
+        pagination.gotoPage(request.getPage(), true);
+      }
+    }
+    List<T> records = new ArrayList<>(result.records);
+    listeners.forEach(
+        dataChangeListener ->
+            dataChangeListener.onDataChanged(new DataChangedEvent<>(records, result.totalCount)));
+  }
+
+  /**
+   * Clears the cached pages and discards the responses of the requests in progress. Call {@link
+   * #load()} to fetch the current page again.
+   */
+  public void invalidateCache() {
+    cacheGeneration++;
+    cache.clear();
+    pendingFetches.clear();
+  }
+
+  private int getEffectivePageSize() {
+    return nonNull(pagination) ? pagination.getPageSize() : pageSize;
+  }
+
+  /**
+   * Retrieves the last requested page.
+   *
+   * @return The last page request, or {@code null} if no page was requested yet.
+   */
+  public PageRequest getLastRequest() {
+    return lastRequest;
+  }
+
+  /**
+   * Gets the pagination component associated with this data store.
+   *
+   * @return The pagination component.
+   */
+  public HasPagination getPagination() {
+    return pagination;
+  }
+
+  /**
+   * Sets the pagination component for this data store, the page size is taken from the pagination
+   * and its pages are updated from the total count of the fetched pages.
+   *
+   * @param pagination The pagination component.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setPagination(HasPagination pagination) {
+    this.pagination = pagination;
+    return this;
+  }
+
+  /**
+   * Sets the page size used when no pagination component is set.
+   *
+   * @param pageSize The number of records per page.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setPageSize(int pageSize) {
+    this.pageSize = Math.max(1, pageSize);
+    return this;
+  }
+
+  /**
+   * Sets the delay in milliseconds to wait for more events before requesting a page, events fired
+   * within the delay of each other result in a single request. A delay of {@code 0} requests a page
+   * for every event.
+   *
+   * @param coalesceDelay The delay in milliseconds.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setCoalesceDelay(int coalesceDelay) {
+    this.coalesceDelay = Math.max(0, coalesceDelay);
+    return this;
+  }
+
+  /**
+   * Enables or disables prefetching the next page in the background after a page is shown.
+   *
+   * @param prefetch {@code true} to prefetch the next page, {@code false} otherwise.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setPrefetch(boolean prefetch) {
+    this.prefetch = prefetch;
+    return this;
+  }
+
+  /**
+   * Sets the maximum number of pages kept in the cache, the least recently used pages are evicted
+   * first. A size of {@code 0} disables the cache and the prefetching.
+   *
+   * @param cacheSize The maximum number of cached pages.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setCacheSize(int cacheSize) {
+    this.cacheSize = Math.max(0, cacheSize);
+    cache.clear();
+    return this;
+  }
+
+  /**
+   * Sets the handler notified when fetching the current page fails, failures of superseded or
+   * prefetch requests are ignored.
+   *
+   * @param errorHandler The error handler.
+   * @return This data store instance.
+   */
+  public RemoteDataStore<T> setErrorHandler(Consumer<Throwable> errorHandler) {
+    if (nonNull(errorHandler)) {
+      this.errorHandler = errorHandler;
+    }
+    return this;
+  }
+
+  private static final class PageResult<T> {
+    private final List<T> records;
+    private final int totalCount;
+
+    private PageResult(List<T> records, int totalCount) {
+      this.records = records;
+      this.totalCount = totalCount;
+    }
+  }
+
+  /**
+   * A fetch in progress, it is shared by the page requests waiting for the same page including the
+   * background prefetch of that page.
+   */
+  private final class PendingFetch implements PageFetcher.PageCallback<T> {
+    private final PageRequest request;
+    private final int generation = cacheGeneration;
+    private final List<Integer> sequences = new ArrayList<>();
+    private boolean done = false;
+
+    private PendingFetch(PageRequest request) {
+      this.request = request;
+    }
+
+    @Override
+    public void onSuccess(List<T> records, int totalCount) {
+      if (isCancelled()) {
+        return;
+      }
+      done = true;
+      pendingFetches.remove(request);
+      PageResult<T> result =
+          new PageResult<>(
+              isNull(records) ? new ArrayList<>() : new ArrayList<>(records), totalCount);
+      if (cacheSize > 0) {
+        cache.put(request, result);
+      }
+      if (sequences.contains(requestSequence)) {
+        deliver(request, result);
+        prefetchNext(request, totalCount);
+      }
+    }
+
+    @Override
+    public void onFailure(Throwable error) {
+      if (isCancelled()) {
+        return;
+      }
+      done = true;
+      pendingFetches.remove(request);
+      if (sequences.contains(requestSequence)) {
+        errorHandler.accept(error);
+      }
+    }
+
+    @Override
+    public boolean isCancelled() {
+      return done
+          || generation != cacheGeneration
+          || (cacheSize <= 0 && !sequences.contains(requestSequence));
+    }
+  }
+}
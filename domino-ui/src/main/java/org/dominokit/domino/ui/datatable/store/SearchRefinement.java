@@ -0,0 +1,119 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+import static java.util.Objects.isNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.dominokit.domino.ui.datatable.model.Category;
+import org.dominokit.domino.ui.datatable.model.Filter;
+import org.dominokit.domino.ui.datatable.model.FilterTypes;
+import org.dominokit.domino.ui.datatable.model.Operator;
+
+/**
+ * Detects whether a set of search filters only narrows down a previous set of filters, in which
+ * case the records matching the new filters are a subset of the records matching the previous ones
+ * and the search can be applied to the previous results instead of all the records.
+ *
+ * <p>The filters are assumed to be combined with AND, and the text operators {@code like}, {@code
+ * contains}, {@code startsWith} and {@code endsWith} are assumed to match a substring, prefix or
+ * suffix of the record value, either case sensitive or not.
+ */
+final class SearchRefinement {
+
+  private SearchRefinement() {}
+
+  /**
+   * Copies the filters so that later changes to the filter instances do not affect the copy.
+   *
+   * @param filters The filters to copy.
+   * @return A copy of the filters.
+   */
+  static List<Filter> snapshot(List<Filter> filters) {
+    List<Filter> snapshot = new ArrayList<>();
+    for (Filter filter : filters) {
+      snapshot.add(
+          new Filter(
+              filter.getFieldName(),
+              filter.getType(),
+              filter.getOperator(),
+              isNull(filter.getValues()) ? null : new ArrayList<>(filter.getValues()),
+              filter.getCategory()));
+    }
+    return snapshot;
+  }
+
+  /**
+   * Checks if the next filters are a refinement of the previous filters, this is the case when each
+   * previous filter is still present with the same operator and equal or narrower values. Header
+   * filters may be added, while search filters may not since a search box filter could match any
+   * column.
+   *
+   * @param previous The previous filters snapshot.
+   * @param next The new filters.
+   * @return {@code true} if the next filters can only match a subset of the previously matched
+   *     records, {@code false} otherwise.
+   */
+  static boolean isRefinement(List<Filter> previous, List<Filter> next) {
+    for (Filter filter : previous) {
+      Optional<Filter> nextFilter = next.stream().filter(filter::equals).findFirst();
+      if (!nextFilter.isPresent() || !isNarrower(filter, nextFilter.get())) {
+        return false;
+      }
+    }
+    return next.stream()
+        .filter(filter -> !previous.contains(filter))
+        .allMatch(filter -> Category.HEADER_FILTER.equals(filter.getCategory()));
+  }
+
+  private static boolean isNarrower(Filter previous, Filter next) {
+    if (previous.getType() != next.getType()
+        || !Objects.equals(previous.getOperator(), next.getOperator())) {
+      return false;
+    }
+    if (Objects.equals(previous.getValues(), next.getValues())) {
+      return true;
+    }
+    if (isNull(previous.getValues())
+        || isNull(next.getValues())
+        || previous.getValues().size() != 1
+        || next.getValues().size() != 1) {
+      return false;
+    }
+    String previousValue = previous.getValues().get(0);
+    String nextValue = next.getValues().get(0);
+    if (isNull(previousValue) || isNull(nextValue)) {
+      return false;
+    }
+    Operator operator = next.getOperator();
+    if (next.getType() != FilterTypes.STRING) {
+      return false;
+    }
+    if (Operator.like.equals(operator) || Operator.isContains.equals(operator)) {
+      return nextValue.contains(previousValue);
+    }
+    if (Operator.startsWith.equals(operator)) {
+      return nextValue.startsWith(previousValue);
+    }
+    if (Operator.endsWith.equals(operator)) {
+      return nextValue.endsWith(previousValue);
+    }
+    return false;
+  }
+}
@@ -0,0 +1,103 @@
+/*
+ * Copyright © 2019 Dominokit
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.dominokit.domino.ui.datatable.store;
+
+/**
+ * The {@code StreamingUpdateMetrics} class counts the record updates streamed into a {@link
+ * LocalListDataStore} using {@link LocalListDataStore#streamRecordUpdate(Object)}, it can be used
+ * to monitor how many updates were merged before reaching the table.
+ */
+public class StreamingUpdateMetrics {
+  private long receivedCount;
+  private long mergedCount;
+  private long droppedCount;
+  private long appliedCount;
+  private long flushCount;
+
+  /**
+   * Gets the number of updates streamed into the store.
+   *
+   * @return The received updates count.
+   */
+  public long getReceivedCount() {
+    return receivedCount;
+  }
+
+  /**
+   * Gets the number of updates that replaced a pending update of the same record before it was
+   * flushed.
+   *
+   * @return The merged updates count.
+   */
+  public long getMergedCount() {
+    return mergedCount;
+  }
+
+  /**
+   * Gets the number of updates that were dropped on flush because their record is not in the store.
+   *
+   * @return The dropped updates count.
+   */
+  public long getDroppedCount() {
+    return droppedCount;
+  }
+
+  /**
+   * Gets the number of updates that were applied to the store records.
+   *
+   * @return The applied updates count.
+   */
+  public long getAppliedCount() {
+    return appliedCount;
+  }
+
+  /**
+   * Gets the number of times the pending updates were flushed.
+   *
+   * @return The flushes count.
+   */
+  public long getFlushCount() {
+    return flushCount;
+  }
+
+  /** Resets all the counters to zero. */
+  public void reset() {
+    receivedCount = 0;
+    mergedCount = 0;
+    droppedCount = 0;
+    appliedCount = 0;
+    flushCount = 0;
+  }
+
+  void onReceived(boolean merged) {
+    receivedCount++;
+    if (merged) {
+      mergedCount++;
+    }
+  }
+
+  void onDropped() {
+    droppedCount++;
+  }
+
+  void onApplied() {
+    appliedCount++;
+  }
+
+  void onFlushed() {
+    flushCount++;
+  }
+}
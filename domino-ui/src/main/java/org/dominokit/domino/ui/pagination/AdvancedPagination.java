@@ -22,6 +22,7 @@ import static org.dominokit.domino.ui.utils.Domino.*;
 import elemental2.dom.EventListener;
 import elemental2.dom.HTMLElement;
 import java.util.stream.IntStream;
+import org.dominokit.domino.ui.forms.IntegerBox;
 import org.dominokit.domino.ui.forms.suggest.Select;
 import org.dominokit.domino.ui.forms.suggest.SelectOption;
 import org.dominokit.domino.ui.utils.ChildHandler;
@@ -42,10 +43,18 @@ import org.dominokit.domino.ui.utils.DominoElement;
  * HTMLElement paginationElement = pagination.element();
  * document.body.appendChild(paginationElement);
  * </code></pre>
+ *
+ * <p>The pages select lists an option for every page, with {@link #setMaxSelectPages(int)} a page
+ * number input replaces the select when there are more pages than the limit, so updating the pages
+ * does not create an option per page.
  */
 public class AdvancedPagination extends BasePagination<AdvancedPagination> {
 
   private Select<Integer> pagesSelect;
+  private PagerNavItem pagesSelectItem;
+  private IntegerBox pageInput;
+  private PagerNavItem pageInputItem;
+  private int maxSelectPages = 0;
   private PagerNavItem totalPagesCount;
 
   /**
@@ -126,10 +135,10 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
     lastPage
         .expand()
         .getLink()
-        .addClickListener(evt -> moveToPage(allPages.size(), isChangeListenersPaused()))
+        .addClickListener(evt -> moveToPage(pagesCount, isChangeListenersPaused()))
         .onKeyDown(
             keyEvents ->
-                keyEvents.onEnter(evt -> moveToPage(allPages.size(), isChangeListenersPaused())));
+                keyEvents.onEnter(evt -> moveToPage(pagesCount, isChangeListenersPaused())));
 
     pagesSelect =
         Select.<Integer>create()
@@ -138,10 +147,16 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
                   moveToPage(isNull(newValue) ? 1 : newValue, isChangeListenersPaused());
                 });
 
-    pagesList.insertAfter(
+    pagesSelectItem =
         PagerNavItem.create(pagesSelect)
-            .withLink((parent, link) -> link.addCss(dui_pagination_select)),
-        prevPage);
+            .withLink((parent, link) -> link.addCss(dui_pagination_select));
+    pagesList.insertAfter(pagesSelectItem, prevPage);
+    pageInput = createPageInput();
+    pageInputItem =
+        PagerNavItem.create(pageInput)
+            .withLink((parent, link) -> link.addCss(dui_pagination_select))
+            .collapse();
+    pagesList.insertAfter(pageInputItem, pagesSelectItem);
     totalPagesCount =
         PagerNavItem.create(text(labels.getPaginationCountLabel(pagesCount)))
             .withLink((parent, link) -> link.addCss(dui_page_count));
@@ -179,14 +194,20 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
     this.index = 1;
     allPages.clear();
     pagesSelect.removeAllOptions();
-    if (pages > 0) {
-      IntStream.rangeClosed(1, pages)
-          .forEach(
-              p -> {
-                pagesSelect.appendItem(
-                    page -> SelectOption.create(String.valueOf(p), p, String.valueOf(p)), p);
-                allPages.add(PagerNavItem.page(p));
-              });
+    if (isPageInput()) {
+      pagesSelectItem.collapse();
+      pageInputItem.expand();
+      pageInput.setMaxValue(pages);
+    } else {
+      pageInputItem.collapse();
+      pagesSelectItem.expand();
+      if (pages > 0) {
+        IntStream.rangeClosed(1, pages)
+            .forEach(
+                p ->
+                    pagesSelect.appendItem(
+                        page -> SelectOption.create(String.valueOf(p), p, String.valueOf(p)), p));
+      }
     }
 
     totalPagesCount.withLink(
@@ -247,10 +268,54 @@ public class AdvancedPagination extends BasePagination<AdvancedPagination> {
         firstPage.enable();
       }
 
-      pagesSelect.withPauseChangeListenersToggle(true, select -> pagesSelect.selectAt(page - 1));
+      if (isPageInput()) {
+        pageInput.setValue(page);
+      } else {
+        pagesSelect.withPauseChangeListenersToggle(true, select -> pagesSelect.selectAt(page - 1));
+      }
     }
   }
 
+  private boolean isPageInput() {
+    return maxSelectPages > 0 && pagesCount > maxSelectPages;
+  }
+
+  /**
+   * Sets the maximum number of pages listed in the pages select, when there are more pages a page
+   * number input is used instead of the select.
+   *
+   * @param maxSelectPages The maximum number of pages in the select, 0 or less for no limit.
+   * @return This {@link AdvancedPagination} instance for method chaining.
+   */
+  public AdvancedPagination setMaxSelectPages(int maxSelectPages) {
+    this.maxSelectPages = maxSelectPages;
+    int activePage = index;
+    updatePages(pagesCount, pageSize, true);
+    if (activePage > 1) {
+      moveToPage(activePage, true);
+    }
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of pages listed in the pages select.
+   *
+   * @return The maximum number of pages in the select, 0 or less for no limit.
+   */
+  public int getMaxSelectPages() {
+    return maxSelectPages;
+  }
+
+  /**
+   * Gets the page number input used instead of the pages select when there are more pages than
+   * {@link #getMaxSelectPages()}.
+   *
+   * @return The page number input.
+   */
+  public IntegerBox getPageInput() {
+    return pageInput;
+  }
+
   /**
    * Gets the Select component used for direct page selection.
    *
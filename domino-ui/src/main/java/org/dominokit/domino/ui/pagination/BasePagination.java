@@ -22,6 +22,8 @@ import elemental2.dom.HTMLElement;
 import java.util.*;
 import org.dominokit.domino.ui.elements.NavElement;
 import org.dominokit.domino.ui.elements.UListElement;
+import org.dominokit.domino.ui.events.EventType;
+import org.dominokit.domino.ui.forms.IntegerBox;
 import org.dominokit.domino.ui.i18n.PaginationLabels;
 import org.dominokit.domino.ui.icons.lib.Icons;
 import org.dominokit.domino.ui.style.BooleanCssClass;
@@ -492,6 +494,28 @@ public abstract class BasePagination<T extends BasePagination<T>>
     return (T) this;
   }
 
+  /**
+   * Creates a numeric input that moves to the entered page when the input value is committed, the
+   * entered page is clamped to the available pages. Paginations use it instead of listing every
+   * page when there are too many pages.
+   *
+   * @return a new page input
+   */
+  protected IntegerBox createPageInput() {
+    IntegerBox pageInput = IntegerBox.create().setMinValue(1);
+    pageInput
+        .getInputElement()
+        .addEventListener(
+            EventType.change.getName(),
+            evt -> {
+              Integer page = pageInput.getValue();
+              if (nonNull(page) && pagesCount > 0) {
+                moveToPage(Math.max(1, Math.min(page, pagesCount)), isChangeListenersPaused());
+              }
+            });
+    return pageInput;
+  }
+
   /**
    * Moves to the specified page, triggering change listeners if not silent. Subclasses should
    * implement this method to perform the actual page navigation.
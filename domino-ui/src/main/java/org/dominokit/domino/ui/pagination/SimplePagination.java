@@ -17,7 +17,7 @@ package org.dominokit.domino.ui.pagination;
 
 import static java.util.Objects.nonNull;
 
-import java.util.stream.IntStream;
+import org.dominokit.domino.ui.forms.IntegerBox;
 import org.dominokit.domino.ui.utils.BaseDominoElement;
 
 /**
@@ -36,9 +36,18 @@ import org.dominokit.domino.ui.utils.BaseDominoElement;
  *         }
  *     });
  * </pre>
+ *
+ * <p>By default a link is rendered for every page. With {@link #setPagesWindow(int)} only a window
+ * of page links around the active page is rendered, together with the first and last page
+ * navigation and a page number input, so updating the pages costs the size of the window instead of
+ * the number of pages.
  */
 public class SimplePagination extends BasePagination<SimplePagination> {
 
+  private int pagesWindow = 0;
+  private final IntegerBox pageInput;
+  private final PagerNavItem pageInputItem;
+
   /**
    * Creates a new instance of SimplePagination with default settings (0 pages and a page size of
    * 10).
@@ -111,6 +120,23 @@ public class SimplePagination extends BasePagination<SimplePagination> {
         .onKeyDown(
             keyEvents ->
                 keyEvents.onEnter(evt -> moveToPage(index + 1, isChangeListenersPaused())));
+    firstPage
+        .getLink()
+        .addClickListener(evt -> moveToPage(1, isChangeListenersPaused()))
+        .onKeyDown(keyEvents -> keyEvents.onEnter(evt -> moveToPage(1, isChangeListenersPaused())));
+    lastPage
+        .getLink()
+        .addClickListener(evt -> moveToPage(pagesCount, isChangeListenersPaused()))
+        .onKeyDown(
+            keyEvents ->
+                keyEvents.onEnter(evt -> moveToPage(pagesCount, isChangeListenersPaused())));
+
+    pageInput = createPageInput();
+    pageInputItem =
+        PagerNavItem.create(pageInput)
+            .withLink((parent, link) -> link.addCss(dui_pagination_select))
+            .collapse();
+    pagesList.insertBefore(pageInputItem, nextPage);
 
     updatePages(pages, pageSize);
   }
@@ -142,27 +168,22 @@ public class SimplePagination extends BasePagination<SimplePagination> {
     this.index = 1;
     clearPages();
 
-    if (pages > 0) {
-      IntStream.rangeClosed(1, pages)
-          .mapToObj(PagerNavItem::page)
-          .forEach(
-              pagerNavItem -> {
-                pagerNavItem
-                    .addClickListener(
-                        evt -> moveToPage(pagerNavItem.getPage(), isChangeListenersPaused()))
-                    .onKeyDown(
-                        keyEvents ->
-                            keyEvents.onEnter(
-                                evt ->
-                                    moveToPage(pagerNavItem.getPage(), isChangeListenersPaused())));
-                if (allPages.isEmpty()) {
-                  pagesList.insertAfter(pagerNavItem, prevPage);
-                } else {
-                  pagesList.insertAfter(pagerNavItem, allPages.get(allPages.size() - 1));
-                }
-                allPages.add(pagerNavItem);
-              });
+    boolean windowed = isWindowed();
+    if (pages > 0 && !windowed) {
+      for (int page = 1; page <= pages; page++) {
+        appendPage(page);
+      }
+    }
+    if (windowed) {
+      firstPage.expand();
+      lastPage.expand();
+      pageInputItem.expand();
+    } else {
+      firstPage.collapse();
+      lastPage.collapse();
+      pageInputItem.collapse();
     }
+    pageInput.setMaxValue(Math.max(1, pages));
 
     if (pages <= 0) {
       prevPage.disable();
@@ -177,6 +198,85 @@ public class SimplePagination extends BasePagination<SimplePagination> {
     return this;
   }
 
+  /**
+   * Creates the link of a page and appends it after the last rendered page link.
+   *
+   * @param page The page number.
+   */
+  private void appendPage(int page) {
+    PagerNavItem pagerNavItem = PagerNavItem.page(page);
+    pagerNavItem
+        .addClickListener(evt -> moveToPage(pagerNavItem.getPage(), isChangeListenersPaused()))
+        .onKeyDown(
+            keyEvents ->
+                keyEvents.onEnter(
+                    evt -> moveToPage(pagerNavItem.getPage(), isChangeListenersPaused())));
+    if (allPages.isEmpty()) {
+      pagesList.insertAfter(pagerNavItem, prevPage);
+    } else {
+      pagesList.insertAfter(pagerNavItem, allPages.get(allPages.size() - 1));
+    }
+    allPages.add(pagerNavItem);
+  }
+
+  /**
+   * Renders the window of page links around the specified page, nothing is rendered when the
+   * window already starts at the same page.
+   *
+   * @param page The active page.
+   */
+  private void renderPagesWindow(int page) {
+    int end = Math.min(pagesCount, Math.max(1, page - pagesWindow / 2) + pagesWindow - 1);
+    int start = Math.max(1, end - pagesWindow + 1);
+    if (!allPages.isEmpty()
+        && allPages.get(0).getPage() == start
+        && allPages.get(allPages.size() - 1).getPage() == end) {
+      return;
+    }
+    clearPages();
+    for (int i = start; i <= end; i++) {
+      appendPage(i);
+    }
+  }
+
+  private boolean isWindowed() {
+    return pagesWindow > 0 && pagesCount > pagesWindow;
+  }
+
+  private PagerNavItem getPageItem(int page) {
+    if (isWindowed()) {
+      return allPages.stream().filter(item -> item.getPage() == page).findFirst().orElse(null);
+    }
+    return allPages.get(page - 1);
+  }
+
+  /**
+   * Sets the maximum number of page links rendered at once, when there are more pages only the
+   * links of a window around the active page are rendered, and the first and last page navigation
+   * and a page number input are shown.
+   *
+   * @param pagesWindow The number of page links in the window, 0 or less to render all the pages.
+   * @return The SimplePagination instance.
+   */
+  public SimplePagination setPagesWindow(int pagesWindow) {
+    this.pagesWindow = pagesWindow;
+    int activePage = index;
+    updatePages(pagesCount, pageSize, true);
+    if (activePage > 1) {
+      moveToPage(activePage, true);
+    }
+    return this;
+  }
+
+  /**
+   * Gets the maximum number of page links rendered at once.
+   *
+   * @return The number of page links in the window, 0 or less if all the pages are rendered.
+   */
+  public int getPagesWindow() {
+    return pagesWindow;
+  }
+
   /**
    * Clears all the page elements in the pagination component.
    *
@@ -200,8 +300,12 @@ public class SimplePagination extends BasePagination<SimplePagination> {
     PagerNavItem oldPage = activePage;
     if (page > 0 && page <= pagesCount) {
       index = page;
+      if (isWindowed()) {
+        renderPagesWindow(page);
+        pageInput.setValue(page);
+      }
       if (markActivePage) {
-        gotoPage(allPages.get(page - 1));
+        gotoPage(getPageItem(page));
       }
 
       if (!silent) {
@@ -210,14 +314,18 @@ public class SimplePagination extends BasePagination<SimplePagination> {
 
       if (page == pagesCount) {
         nextPage.disable();
+        lastPage.disable();
       } else {
         nextPage.enable();
+        lastPage.enable();
       }
 
       if (page > 1) {
         prevPage.enable();
+        firstPage.enable();
       } else {
         prevPage.disable();
+        firstPage.disable();
       }
     }
   }